@@ -1,7 +1,9 @@
 package io.github.dtolmachev1;
 
+import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
 import io.github.dtolmachev1.inference.manager.GenericInferenceManager;
 import io.github.dtolmachev1.inference.manager.InferenceManager;
 import io.github.dtolmachev1.repository.destination.DestinationRepository;
@@ -41,6 +43,7 @@ public class Application {
     private Path configuration;
     private boolean analyze;
     private boolean transform;
+    private boolean resume;
 
     public Application() {
         this.options = buildOptions();
@@ -94,6 +97,10 @@ public class Application {
                 .longOpt("transform")
                 .desc("Perform only the transformation phase")
                 .build();
+        Option resume = Option.builder("r")
+                .longOpt("resume")
+                .desc("Resume the transformation phase from the load checkpoint")
+                .build();
         Option help = new Option("h", "help", false, "Print help information");
         Options options = new Options();
         options.addOption(source);
@@ -102,6 +109,7 @@ public class Application {
         options.addOption(configuration);
         options.addOption(analyze);
         options.addOption(transform);
+        options.addOption(resume);
         options.addOption(help);
         return options;
     }
@@ -125,6 +133,9 @@ public class Application {
         if (cmd.hasOption("T") || cmd.hasOption("transform")) {
             processTransform();
         }
+        if (cmd.hasOption("r") || cmd.hasOption("resume")) {
+            processResume();
+        }
         if (cmd.hasOption("h") || cmd.hasOption("help")) {
             processHelp();
         }
@@ -161,6 +172,10 @@ public class Application {
         this.transform = true;
     }
 
+    private void processResume() {
+        this.resume = true;
+    }
+
     private void processHelp() {
         this.formatter.printHelp(APPLICATION_NAME, this.options);
     }
@@ -177,7 +192,17 @@ public class Application {
             SourceRepository sourceRepository = SourceRepositoryFactory.getSourceRepository(CsvRepository.REPOSITORY_NAME);
             DestinationRepository destinationRepository = DestinationRepositoryFactory.getDestinationRepository(PostgresqlRepository.REPOSITORY_NAME);
             InferenceManager inferenceManager = new GenericInferenceManager();
-            Database database = sourceRepository.load(this.source, this.destination);
+            if (isStreamed()) {
+                StreamDatabase streamDatabase = sourceRepository.stream(this.source, this.destination);
+                try (InputStream analyzesInputStream = Files.newInputStream(this.analyzes)) {
+                    inferenceManager.loadAnalyzes(analyzesInputStream, streamDatabase);
+                } catch (IOException e) {
+                    throw new RuntimeException("Unable to read analyzes");
+                }
+                destinationRepository.save(streamDatabase, this.resume);
+                return;
+            }
+            Database database = isSampled() ? sourceRepository.sample(this.source, this.destination) : sourceRepository.load(this.source, this.destination);
             if (this.analyze) {
                 try (OutputStream analyzesOutputStream = Files.newOutputStream(this.analyzes)) {
                     inferenceManager.analyzeDatabase(database);
@@ -193,10 +218,19 @@ public class Application {
                 }
             }
             if (this.transform) {
-                destinationRepository.save(database);
+                destinationRepository.save(database, this.resume);
             }
         } catch (IOException e) {
             throw new RuntimeException("Unable to read configuration");
         }
     }
+
+    private boolean isSampled() {
+        Configuration configuration = XmlConfiguration.newInstance();
+        return this.analyze && !this.transform && (configuration.sampleSize() > 0 || configuration.sampleFraction() < 1);
+    }
+
+    private boolean isStreamed() {
+        return this.transform && !this.analyze && XmlConfiguration.newInstance().streamingTransform();
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.dtolmachev1.configuration;
 
+import io.github.dtolmachev1.data.storage.Storage;
 import io.github.dtolmachev1.inference.policy.ColumnPolicy;
 import io.github.dtolmachev1.inference.policy.TablePolicy;
 import org.w3c.dom.Document;
@@ -15,6 +16,8 @@ public interface Configuration {
 
     double tableSimilarityThreshold();
 
+    String similarTablesGrouping();
+
     TablePolicy similarTablesPolicy();
 
     double typeThreshold();
@@ -29,6 +32,10 @@ public interface Configuration {
 
     ColumnPolicy referencePolicy();
 
+    String referenceCounter();
+
+    boolean referencePruning();
+
     int multiValueReferenceLength();
 
     int multiValueReferenceCount();
@@ -39,6 +46,40 @@ public interface Configuration {
 
     ColumnPolicy multiValueReferencePolicy();
 
+    Storage storage();
+
+    long memoryBudget();
+
+    int loadParallelism();
+
+    long loadChunkSize();
+
+    String csvParser();
+
+    boolean mappedInput();
+
+    int sampleSize();
+
+    double sampleFraction();
+
+    boolean streamingTransform();
+
+    int streamingBatchSize();
+
+    String tableWriter();
+
+    int copyPipelineDepth();
+
+    int rowsPerCommit();
+
+    String checkpointFile();
+
+    boolean deferredConstraints();
+
+    boolean unloggedLoad();
+
+    boolean analyzeTables();
+
     DbmsConfiguration dbmsConfiguration();
 
     interface DbmsConfiguration {
@@ -51,5 +92,7 @@ public interface Configuration {
         String username();
 
         String password();
+
+        int connectionPoolSize();
     }
 }
@@ -1,5 +1,9 @@
 package io.github.dtolmachev1.configuration;
 
+import io.github.dtolmachev1.data.storage.DirectStorage;
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.storage.Storage;
+import io.github.dtolmachev1.data.storage.StorageFactory;
 import io.github.dtolmachev1.inference.policy.ColumnPolicy;
 import io.github.dtolmachev1.inference.policy.ColumnPolicyFactory;
 import io.github.dtolmachev1.inference.policy.IgnorePolicy;
@@ -7,6 +11,14 @@ import io.github.dtolmachev1.inference.policy.KeepFirstPolicy;
 import io.github.dtolmachev1.inference.policy.RemovePolicy;
 import io.github.dtolmachev1.inference.policy.TablePolicy;
 import io.github.dtolmachev1.inference.policy.TablePolicyFactory;
+import io.github.dtolmachev1.inference.profile.HashReferenceCounter;
+import io.github.dtolmachev1.inference.profile.SortMergeReferenceCounter;
+import io.github.dtolmachev1.inference.rule.SimilarTablesInferenceRule;
+import io.github.dtolmachev1.repository.destination.BinaryCopyTableWriter;
+import io.github.dtolmachev1.repository.destination.CopyTableWriter;
+import io.github.dtolmachev1.repository.destination.InsertTableWriter;
+import io.github.dtolmachev1.repository.source.CsvTokenizer;
+import io.github.dtolmachev1.repository.source.OpenCsvRecordReader;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
@@ -32,6 +44,7 @@ public class XmlConfiguration implements Configuration {
     private static final String CONFIGURATION_TAG = "config";
     private static final String MERGE_SIMILAR_TABLES_TAG = "merge-similar-tables";
     private static final String TABLE_SIMILARITY_THRESHOLD_TAG = "table-similarity-threshold";
+    private static final String SIMILAR_TABLES_GROUPING_TAG = "similar-tables-grouping";
     private static final String SIMILAR_TABLES_POLICY_TAG = "similar-tables-policy";
     private static final String TYPE_THRESHOLD_TAG = "type-threshold";
     private static final String TYPE_POLICY_TAG = "type-policy";
@@ -39,14 +52,34 @@ public class XmlConfiguration implements Configuration {
     private static final String UNIQUE_POLICY_TAG = "unique-policy";
     private static final String REFERENCE_THRESHOLD_TAG = "reference-threshold";
     private static final String REFERENCE_POLICY_TAG = "reference-policy";
+    private static final String REFERENCE_COUNTER_TAG = "reference-counter";
+    private static final String REFERENCE_PRUNING_TAG = "reference-pruning";
     private static final String MULTI_VALUE_REFERENCE_LENGTH_TAG = "multi-value-reference-length";
     private static final String MULTI_VALUE_REFERENCE_COUNT_TAG = "multi-value-reference-count";
     private static final String MULTI_VALUE_REFERENCE_SEPARATORS_TAG = "multi-value-reference-separators";
     private static final String MULTI_VALUE_REFERENCE_THRESHOLD_TAG = "multi-value-reference-threshold";
     private static final String MULTI_VALUE_REFERENCE_POLICY_TAG = "multi-value-reference-policy";
+    private static final String STORAGE_TAG = "storage";
+    private static final String MEMORY_BUDGET_TAG = "memory-budget";
+    private static final String LOAD_PARALLELISM_TAG = "load-parallelism";
+    private static final String LOAD_CHUNK_SIZE_TAG = "load-chunk-size";
+    private static final String CSV_PARSER_TAG = "csv-parser";
+    private static final String MAPPED_INPUT_TAG = "mapped-input";
+    private static final String SAMPLE_SIZE_TAG = "sample-size";
+    private static final String SAMPLE_FRACTION_TAG = "sample-fraction";
+    private static final String STREAMING_TRANSFORM_TAG = "streaming-transform";
+    private static final String STREAMING_BATCH_SIZE_TAG = "streaming-batch-size";
+    private static final String TABLE_WRITER_TAG = "table-writer";
+    private static final String COPY_PIPELINE_DEPTH_TAG = "copy-pipeline-depth";
+    private static final String ROWS_PER_COMMIT_TAG = "rows-per-commit";
+    private static final String CHECKPOINT_FILE_TAG = "checkpoint-file";
+    private static final String DEFERRED_CONSTRAINTS_TAG = "deferred-constraints";
+    private static final String UNLOGGED_LOAD_TAG = "unlogged-load";
+    private static final String ANALYZE_TABLES_TAG = "analyze-tables";
     private static final String DBMS_CONFIGURATION_TAG = "dbms-config";
     private static final boolean DEFAULT_MERGE_SIMILAR_TABLES = true;
     private static final double DEFAULT_TABLE_SIMILARITY_THRESHOLD = 0.8;
+    private static final String DEFAULT_SIMILAR_TABLES_GROUPING = SimilarTablesInferenceRule.GREEDY_GROUPING;
     private static final TablePolicy DEFAULT_SIMILAR_TABLES_POLICY = TablePolicyFactory.getTablePolicy(RemovePolicy.POLICY_NAME);
     private static final double DEFAULT_TYPE_THRESHOLD = 0.9;
     private static final ColumnPolicy DEFAULT_TYPE_POLICY = ColumnPolicyFactory.getColumnPolicy(IgnorePolicy.POLICY_NAME);
@@ -54,18 +87,43 @@ public class XmlConfiguration implements Configuration {
     private static final ColumnPolicy DEFAULT_UNIQUE_POLICY = ColumnPolicyFactory.getColumnPolicy(IgnorePolicy.POLICY_NAME);
     private static final double DEFAULT_REFERENCE_THRESHOLD = 0.9;
     private static final ColumnPolicy DEFAULT_REFERENCE_POLICY = ColumnPolicyFactory.getColumnPolicy(IgnorePolicy.POLICY_NAME);
+    private static final String DEFAULT_REFERENCE_COUNTER = HashReferenceCounter.COUNTER_NAME;
+    private static final boolean DEFAULT_REFERENCE_PRUNING = true;
     private static final int DEFAULT_MULTI_VALUE_REFERENCE_LENGTH = 100;
     private static final int DEFAULT_MULTI_VALUE_REFERENCE_COUNT = 2;
     private static final List<String> DEFAULT_MULTI_VALUE_REFERENCE_SEPARATORS = List.of("|");
     private static final double DEFAULT_MULTI_VALUE_REFERENCE_THRESHOLD = 0.9;
     private static final ColumnPolicy DEFAULT_MULTI_VALUE_REFERENCE_POLICY = ColumnPolicyFactory.getColumnPolicy(IgnorePolicy.POLICY_NAME);
+    private static final Storage DEFAULT_STORAGE = StorageFactory.getStorage(HeapStorage.STORAGE_NAME);
+    private static final long DEFAULT_MEMORY_BUDGET = 0;
+    private static final int DEFAULT_LOAD_PARALLELISM = 1;
+    private static final long DEFAULT_LOAD_CHUNK_SIZE = 0;
+    private static final String DEFAULT_CSV_PARSER = OpenCsvRecordReader.READER_NAME;
+    private static final boolean DEFAULT_MAPPED_INPUT = false;
+    private static final int DEFAULT_SAMPLE_SIZE = 0;
+    private static final double DEFAULT_SAMPLE_FRACTION = 1.0;
+    private static final boolean DEFAULT_STREAMING_TRANSFORM = false;
+    private static final int DEFAULT_STREAMING_BATCH_SIZE = 10000;
+    private static final String DEFAULT_TABLE_WRITER = CopyTableWriter.WRITER_NAME;
+    private static final int DEFAULT_COPY_PIPELINE_DEPTH = 0;
+    private static final int DEFAULT_ROWS_PER_COMMIT = 0;
+    private static final String DEFAULT_CHECKPOINT_FILE = "load.checkpoint";
+    private static final boolean DEFAULT_DEFERRED_CONSTRAINTS = false;
+    private static final boolean DEFAULT_UNLOGGED_LOAD = false;
+    private static final boolean DEFAULT_ANALYZE_TABLES = false;
     private static final Set<String> SIMILAR_TABLES_POLICIES = Set.of(RemovePolicy.POLICY_NAME);
+    private static final Set<String> SIMILAR_TABLES_GROUPINGS = Set.of(SimilarTablesInferenceRule.GREEDY_GROUPING, SimilarTablesInferenceRule.LSH_GROUPING);
     private static final Set<String> TYPE_POLICIES = Set.of(IgnorePolicy.POLICY_NAME);
     private static final Set<String> UNIQUE_POLICIES = Set.of(IgnorePolicy.POLICY_NAME, KeepFirstPolicy.POLICY_NAME);
     private static final Set<String> REFERENCE_POLICIES = Set.of(IgnorePolicy.POLICY_NAME);
     private static final Set<String> MULTI_VALUE_REFERENCE_POLICIES = Set.of(IgnorePolicy.POLICY_NAME);
+    private static final Set<String> STORAGES = Set.of(HeapStorage.STORAGE_NAME, DirectStorage.STORAGE_NAME);
+    private static final Set<String> CSV_PARSERS = Set.of(OpenCsvRecordReader.READER_NAME, CsvTokenizer.READER_NAME);
+    private static final Set<String> REFERENCE_COUNTERS = Set.of(HashReferenceCounter.COUNTER_NAME, SortMergeReferenceCounter.COUNTER_NAME);
+    private static final Set<String> TABLE_WRITERS = Set.of(InsertTableWriter.WRITER_NAME, CopyTableWriter.WRITER_NAME, BinaryCopyTableWriter.WRITER_NAME);
     private boolean mergeSimilarTables;
     private double tableSimilarityThreshold;
+    private String similarTablesGrouping;
     private TablePolicy similarTablesPolicy;
     private double typeThreshold;
     private ColumnPolicy typePolicy;
@@ -73,16 +131,36 @@ public class XmlConfiguration implements Configuration {
     private ColumnPolicy uniquePolicy;
     private double referenceThreshold;
     private ColumnPolicy referencePolicy;
+    private String referenceCounter;
+    private boolean referencePruning;
     private int multiValueReferenceLength;
     private int multiValueReferenceCount;
     private List<String> multiValueReferenceSeparators;
     private double multiValueReferenceThreshold;
     private ColumnPolicy multiValueReferencePolicy;
+    private Storage storage;
+    private long memoryBudget;
+    private int loadParallelism;
+    private long loadChunkSize;
+    private String csvParser;
+    private boolean mappedInput;
+    private int sampleSize;
+    private double sampleFraction;
+    private boolean streamingTransform;
+    private int streamingBatchSize;
+    private String tableWriter;
+    private int copyPipelineDepth;
+    private int rowsPerCommit;
+    private String checkpointFile;
+    private boolean deferredConstraints;
+    private boolean unloggedLoad;
+    private boolean analyzeTables;
     private DbmsConfiguration dbmsConfiguration;
 
     private XmlConfiguration() {
         this.mergeSimilarTables = DEFAULT_MERGE_SIMILAR_TABLES;
         this.tableSimilarityThreshold = DEFAULT_TABLE_SIMILARITY_THRESHOLD;
+        this.similarTablesGrouping = DEFAULT_SIMILAR_TABLES_GROUPING;
         this.similarTablesPolicy = DEFAULT_SIMILAR_TABLES_POLICY;
         this.typeThreshold = DEFAULT_TYPE_THRESHOLD;
         this.typePolicy = DEFAULT_TYPE_POLICY;
@@ -90,11 +168,30 @@ public class XmlConfiguration implements Configuration {
         this.uniquePolicy = DEFAULT_UNIQUE_POLICY;
         this.referenceThreshold = DEFAULT_REFERENCE_THRESHOLD;
         this.referencePolicy = DEFAULT_REFERENCE_POLICY;
+        this.referenceCounter = DEFAULT_REFERENCE_COUNTER;
+        this.referencePruning = DEFAULT_REFERENCE_PRUNING;
         this.multiValueReferenceLength = DEFAULT_MULTI_VALUE_REFERENCE_LENGTH;
         this.multiValueReferenceCount = DEFAULT_MULTI_VALUE_REFERENCE_COUNT;
         this.multiValueReferenceSeparators = DEFAULT_MULTI_VALUE_REFERENCE_SEPARATORS;
         this.multiValueReferenceThreshold = DEFAULT_MULTI_VALUE_REFERENCE_THRESHOLD;
         this.multiValueReferencePolicy = DEFAULT_MULTI_VALUE_REFERENCE_POLICY;
+        this.storage = DEFAULT_STORAGE;
+        this.memoryBudget = DEFAULT_MEMORY_BUDGET;
+        this.loadParallelism = DEFAULT_LOAD_PARALLELISM;
+        this.loadChunkSize = DEFAULT_LOAD_CHUNK_SIZE;
+        this.csvParser = DEFAULT_CSV_PARSER;
+        this.mappedInput = DEFAULT_MAPPED_INPUT;
+        this.sampleSize = DEFAULT_SAMPLE_SIZE;
+        this.sampleFraction = DEFAULT_SAMPLE_FRACTION;
+        this.streamingTransform = DEFAULT_STREAMING_TRANSFORM;
+        this.streamingBatchSize = DEFAULT_STREAMING_BATCH_SIZE;
+        this.tableWriter = DEFAULT_TABLE_WRITER;
+        this.copyPipelineDepth = DEFAULT_COPY_PIPELINE_DEPTH;
+        this.rowsPerCommit = DEFAULT_ROWS_PER_COMMIT;
+        this.checkpointFile = DEFAULT_CHECKPOINT_FILE;
+        this.deferredConstraints = DEFAULT_DEFERRED_CONSTRAINTS;
+        this.unloggedLoad = DEFAULT_UNLOGGED_LOAD;
+        this.analyzeTables = DEFAULT_ANALYZE_TABLES;
         this.dbmsConfiguration = XmlDbmsConfiguration.newInstance();
     }
 
@@ -137,6 +234,11 @@ public class XmlConfiguration implements Configuration {
         return this.tableSimilarityThreshold;
     }
 
+    @Override
+    public String similarTablesGrouping() {
+        return this.similarTablesGrouping;
+    }
+
     @Override
     public TablePolicy similarTablesPolicy() {
         return this.similarTablesPolicy;
@@ -172,6 +274,16 @@ public class XmlConfiguration implements Configuration {
         return this.referencePolicy;
     }
 
+    @Override
+    public String referenceCounter() {
+        return this.referenceCounter;
+    }
+
+    @Override
+    public boolean referencePruning() {
+        return this.referencePruning;
+    }
+
     @Override
     public int multiValueReferenceLength() {
         return this.multiValueReferenceLength;
@@ -197,6 +309,91 @@ public class XmlConfiguration implements Configuration {
         return this.multiValueReferencePolicy;
     }
 
+    @Override
+    public Storage storage() {
+        return this.storage;
+    }
+
+    @Override
+    public long memoryBudget() {
+        return this.memoryBudget;
+    }
+
+    @Override
+    public int loadParallelism() {
+        return this.loadParallelism;
+    }
+
+    @Override
+    public long loadChunkSize() {
+        return this.loadChunkSize;
+    }
+
+    @Override
+    public String csvParser() {
+        return this.csvParser;
+    }
+
+    @Override
+    public boolean mappedInput() {
+        return this.mappedInput;
+    }
+
+    @Override
+    public int sampleSize() {
+        return this.sampleSize;
+    }
+
+    @Override
+    public double sampleFraction() {
+        return this.sampleFraction;
+    }
+
+    @Override
+    public boolean streamingTransform() {
+        return this.streamingTransform;
+    }
+
+    @Override
+    public int streamingBatchSize() {
+        return this.streamingBatchSize;
+    }
+
+    @Override
+    public String tableWriter() {
+        return this.tableWriter;
+    }
+
+    @Override
+    public int copyPipelineDepth() {
+        return this.copyPipelineDepth;
+    }
+
+    @Override
+    public int rowsPerCommit() {
+        return this.rowsPerCommit;
+    }
+
+    @Override
+    public String checkpointFile() {
+        return this.checkpointFile;
+    }
+
+    @Override
+    public boolean deferredConstraints() {
+        return this.deferredConstraints;
+    }
+
+    @Override
+    public boolean unloggedLoad() {
+        return this.unloggedLoad;
+    }
+
+    @Override
+    public boolean analyzeTables() {
+        return this.analyzeTables;
+    }
+
     @Override
     public DbmsConfiguration dbmsConfiguration() {
         return this.dbmsConfiguration;
@@ -217,6 +414,7 @@ public class XmlConfiguration implements Configuration {
             switch (configurationEntry.getTagName()) {
                 case MERGE_SIMILAR_TABLES_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.mergeSimilarTables = Boolean.parseBoolean(configurationEntry.getTextContent());
                 case TABLE_SIMILARITY_THRESHOLD_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.tableSimilarityThreshold = Double.parseDouble(configurationEntry.getTextContent());
+                case SIMILAR_TABLES_GROUPING_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.similarTablesGrouping = configurationEntry.getTextContent();
                 case SIMILAR_TABLES_POLICY_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.similarTablesPolicy = TablePolicyFactory.getTablePolicy(configurationEntry.getTextContent());
                 case TYPE_THRESHOLD_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.typeThreshold = Double.parseDouble(configurationEntry.getTextContent());
                 case TYPE_POLICY_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.typePolicy = ColumnPolicyFactory.getColumnPolicy(configurationEntry.getTextContent());
@@ -224,11 +422,30 @@ public class XmlConfiguration implements Configuration {
                 case UNIQUE_POLICY_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.uniquePolicy = ColumnPolicyFactory.getColumnPolicy(configurationEntry.getTextContent());
                 case REFERENCE_THRESHOLD_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.referenceThreshold = Double.parseDouble(configurationEntry.getTextContent());
                 case REFERENCE_POLICY_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.referencePolicy = ColumnPolicyFactory.getColumnPolicy(configurationEntry.getTextContent());
+                case REFERENCE_COUNTER_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.referenceCounter = configurationEntry.getTextContent();
+                case REFERENCE_PRUNING_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.referencePruning = Boolean.parseBoolean(configurationEntry.getTextContent());
                 case MULTI_VALUE_REFERENCE_LENGTH_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.multiValueReferenceLength = Integer.parseInt(configurationEntry.getTextContent());
                 case MULTI_VALUE_REFERENCE_COUNT_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.multiValueReferenceCount = Integer.parseInt(configurationEntry.getTextContent());
                 case MULTI_VALUE_REFERENCE_SEPARATORS_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.multiValueReferenceSeparators = configurationEntry.getTextContent().chars().mapToObj(ch -> String.valueOf((char) ch)).toList();
                 case MULTI_VALUE_REFERENCE_THRESHOLD_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.multiValueReferenceThreshold = Double.parseDouble(configurationEntry.getTextContent());
                 case MULTI_VALUE_REFERENCE_POLICY_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.multiValueReferencePolicy = ColumnPolicyFactory.getColumnPolicy(configurationEntry.getTextContent());
+                case STORAGE_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.storage = StorageFactory.getStorage(configurationEntry.getTextContent());
+                case MEMORY_BUDGET_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.memoryBudget = Long.parseLong(configurationEntry.getTextContent());
+                case LOAD_PARALLELISM_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.loadParallelism = Integer.parseInt(configurationEntry.getTextContent());
+                case LOAD_CHUNK_SIZE_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.loadChunkSize = Long.parseLong(configurationEntry.getTextContent());
+                case CSV_PARSER_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.csvParser = configurationEntry.getTextContent();
+                case MAPPED_INPUT_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.mappedInput = Boolean.parseBoolean(configurationEntry.getTextContent());
+                case SAMPLE_SIZE_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.sampleSize = Integer.parseInt(configurationEntry.getTextContent());
+                case SAMPLE_FRACTION_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.sampleFraction = Double.parseDouble(configurationEntry.getTextContent());
+                case STREAMING_TRANSFORM_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.streamingTransform = Boolean.parseBoolean(configurationEntry.getTextContent());
+                case STREAMING_BATCH_SIZE_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.streamingBatchSize = Integer.parseInt(configurationEntry.getTextContent());
+                case TABLE_WRITER_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.tableWriter = configurationEntry.getTextContent();
+                case COPY_PIPELINE_DEPTH_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.copyPipelineDepth = Integer.parseInt(configurationEntry.getTextContent());
+                case ROWS_PER_COMMIT_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.rowsPerCommit = Integer.parseInt(configurationEntry.getTextContent());
+                case CHECKPOINT_FILE_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.checkpointFile = configurationEntry.getTextContent();
+                case DEFERRED_CONSTRAINTS_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.deferredConstraints = Boolean.parseBoolean(configurationEntry.getTextContent());
+                case UNLOGGED_LOAD_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.unloggedLoad = Boolean.parseBoolean(configurationEntry.getTextContent());
+                case ANALYZE_TABLES_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.analyzeTables = Boolean.parseBoolean(configurationEntry.getTextContent());
                 case DBMS_CONFIGURATION_TAG -> XmlConfigurationHolder.XML_CONFIGURATION.dbmsConfiguration = XmlDbmsConfiguration.load(configurationEntry.getElementsByTagName("*"));
             }
         }
@@ -242,6 +459,9 @@ public class XmlConfiguration implements Configuration {
         Element tableSimilarityThresholdNode = document.createElement(TABLE_SIMILARITY_THRESHOLD_TAG);
         tableSimilarityThresholdNode.setTextContent(Double.toString(this.tableSimilarityThreshold));
         configurationNode.appendChild(tableSimilarityThresholdNode);
+        Element similarTablesGroupingNode = document.createElement(SIMILAR_TABLES_GROUPING_TAG);
+        similarTablesGroupingNode.setTextContent(this.similarTablesGrouping);
+        configurationNode.appendChild(similarTablesGroupingNode);
         Element similarTablesPolicyNode = document.createElement(SIMILAR_TABLES_POLICY_TAG);
         similarTablesPolicyNode.setTextContent(this.similarTablesPolicy.name());
         configurationNode.appendChild(similarTablesPolicyNode);
@@ -263,6 +483,12 @@ public class XmlConfiguration implements Configuration {
         Element referencePolicyNode = document.createElement(REFERENCE_POLICY_TAG);
         referencePolicyNode.setTextContent(this.referencePolicy.name());
         configurationNode.appendChild(referencePolicyNode);
+        Element referenceCounterNode = document.createElement(REFERENCE_COUNTER_TAG);
+        referenceCounterNode.setTextContent(this.referenceCounter);
+        configurationNode.appendChild(referenceCounterNode);
+        Element referencePruningNode = document.createElement(REFERENCE_PRUNING_TAG);
+        referencePruningNode.setTextContent(Boolean.toString(this.referencePruning));
+        configurationNode.appendChild(referencePruningNode);
         Element multiValueReferenceLengthNode = document.createElement(MULTI_VALUE_REFERENCE_LENGTH_TAG);
         multiValueReferenceLengthNode.setTextContent(Integer.toString(this.multiValueReferenceLength));
         configurationNode.appendChild(multiValueReferenceLengthNode);
@@ -278,6 +504,57 @@ public class XmlConfiguration implements Configuration {
         Element multiValueReferencePolicyNode = document.createElement(MULTI_VALUE_REFERENCE_POLICY_TAG);
         multiValueReferencePolicyNode.setTextContent(this.multiValueReferencePolicy.name());
         configurationNode.appendChild(multiValueReferencePolicyNode);
+        Element storageNode = document.createElement(STORAGE_TAG);
+        storageNode.setTextContent(this.storage.name());
+        configurationNode.appendChild(storageNode);
+        Element memoryBudgetNode = document.createElement(MEMORY_BUDGET_TAG);
+        memoryBudgetNode.setTextContent(Long.toString(this.memoryBudget));
+        configurationNode.appendChild(memoryBudgetNode);
+        Element loadParallelismNode = document.createElement(LOAD_PARALLELISM_TAG);
+        loadParallelismNode.setTextContent(Integer.toString(this.loadParallelism));
+        configurationNode.appendChild(loadParallelismNode);
+        Element loadChunkSizeNode = document.createElement(LOAD_CHUNK_SIZE_TAG);
+        loadChunkSizeNode.setTextContent(Long.toString(this.loadChunkSize));
+        configurationNode.appendChild(loadChunkSizeNode);
+        Element csvParserNode = document.createElement(CSV_PARSER_TAG);
+        csvParserNode.setTextContent(this.csvParser);
+        configurationNode.appendChild(csvParserNode);
+        Element mappedInputNode = document.createElement(MAPPED_INPUT_TAG);
+        mappedInputNode.setTextContent(Boolean.toString(this.mappedInput));
+        configurationNode.appendChild(mappedInputNode);
+        Element sampleSizeNode = document.createElement(SAMPLE_SIZE_TAG);
+        sampleSizeNode.setTextContent(Integer.toString(this.sampleSize));
+        configurationNode.appendChild(sampleSizeNode);
+        Element sampleFractionNode = document.createElement(SAMPLE_FRACTION_TAG);
+        sampleFractionNode.setTextContent(Double.toString(this.sampleFraction));
+        configurationNode.appendChild(sampleFractionNode);
+        Element streamingTransformNode = document.createElement(STREAMING_TRANSFORM_TAG);
+        streamingTransformNode.setTextContent(Boolean.toString(this.streamingTransform));
+        configurationNode.appendChild(streamingTransformNode);
+        Element streamingBatchSizeNode = document.createElement(STREAMING_BATCH_SIZE_TAG);
+        streamingBatchSizeNode.setTextContent(Integer.toString(this.streamingBatchSize));
+        configurationNode.appendChild(streamingBatchSizeNode);
+        Element tableWriterNode = document.createElement(TABLE_WRITER_TAG);
+        tableWriterNode.setTextContent(this.tableWriter);
+        configurationNode.appendChild(tableWriterNode);
+        Element copyPipelineDepthNode = document.createElement(COPY_PIPELINE_DEPTH_TAG);
+        copyPipelineDepthNode.setTextContent(Integer.toString(this.copyPipelineDepth));
+        configurationNode.appendChild(copyPipelineDepthNode);
+        Element rowsPerCommitNode = document.createElement(ROWS_PER_COMMIT_TAG);
+        rowsPerCommitNode.setTextContent(Integer.toString(this.rowsPerCommit));
+        configurationNode.appendChild(rowsPerCommitNode);
+        Element checkpointFileNode = document.createElement(CHECKPOINT_FILE_TAG);
+        checkpointFileNode.setTextContent(this.checkpointFile);
+        configurationNode.appendChild(checkpointFileNode);
+        Element deferredConstraintsNode = document.createElement(DEFERRED_CONSTRAINTS_TAG);
+        deferredConstraintsNode.setTextContent(Boolean.toString(this.deferredConstraints));
+        configurationNode.appendChild(deferredConstraintsNode);
+        Element unloggedLoadNode = document.createElement(UNLOGGED_LOAD_TAG);
+        unloggedLoadNode.setTextContent(Boolean.toString(this.unloggedLoad));
+        configurationNode.appendChild(unloggedLoadNode);
+        Element analyzeTablesNode = document.createElement(ANALYZE_TABLES_TAG);
+        analyzeTablesNode.setTextContent(Boolean.toString(this.analyzeTables));
+        configurationNode.appendChild(analyzeTablesNode);
         configurationNode.appendChild(dbmsConfiguration.save(document));
         return configurationNode;
     }
@@ -288,7 +565,22 @@ public class XmlConfiguration implements Configuration {
         boolean validUniquePolicy = UNIQUE_POLICIES.contains(XmlConfigurationHolder.XML_CONFIGURATION.uniquePolicy.name());
         boolean validReferencePolicy = REFERENCE_POLICIES.contains(XmlConfigurationHolder.XML_CONFIGURATION.referencePolicy.name());
         boolean validMultiValueReferencePolicy = MULTI_VALUE_REFERENCE_POLICIES.contains(XmlConfigurationHolder.XML_CONFIGURATION.multiValueReferencePolicy.name());
-        if (!validSimilarTablesPolicy || !validTypePolicy || !validUniquePolicy || !validReferencePolicy || !validMultiValueReferencePolicy) {
+        boolean validStorage = STORAGES.contains(XmlConfigurationHolder.XML_CONFIGURATION.storage.name());
+        boolean validMemoryBudget = XmlConfigurationHolder.XML_CONFIGURATION.memoryBudget >= 0;
+        boolean validLoadParallelism = XmlConfigurationHolder.XML_CONFIGURATION.loadParallelism > 0;
+        boolean validLoadChunkSize = XmlConfigurationHolder.XML_CONFIGURATION.loadChunkSize >= 0 && XmlConfigurationHolder.XML_CONFIGURATION.loadChunkSize < Integer.MAX_VALUE;
+        boolean validCsvParser = CSV_PARSERS.contains(XmlConfigurationHolder.XML_CONFIGURATION.csvParser);
+        boolean validSampleSize = XmlConfigurationHolder.XML_CONFIGURATION.sampleSize >= 0;
+        boolean validSampleFraction = XmlConfigurationHolder.XML_CONFIGURATION.sampleFraction > 0 && XmlConfigurationHolder.XML_CONFIGURATION.sampleFraction <= 1;
+        boolean validStreamingBatchSize = XmlConfigurationHolder.XML_CONFIGURATION.streamingBatchSize > 0;
+        boolean validTableWriter = TABLE_WRITERS.contains(XmlConfigurationHolder.XML_CONFIGURATION.tableWriter);
+        boolean validConnectionPoolSize = XmlConfigurationHolder.XML_CONFIGURATION.dbmsConfiguration.connectionPoolSize() > 0;
+        boolean validRowsPerCommit = XmlConfigurationHolder.XML_CONFIGURATION.rowsPerCommit >= 0;
+        boolean validCheckpointFile = !XmlConfigurationHolder.XML_CONFIGURATION.checkpointFile.isEmpty();
+        boolean validCopyPipelineDepth = XmlConfigurationHolder.XML_CONFIGURATION.copyPipelineDepth >= 0;
+        boolean validReferenceCounter = REFERENCE_COUNTERS.contains(XmlConfigurationHolder.XML_CONFIGURATION.referenceCounter);
+        boolean validSimilarTablesGrouping = SIMILAR_TABLES_GROUPINGS.contains(XmlConfigurationHolder.XML_CONFIGURATION.similarTablesGrouping);
+        if (!validSimilarTablesPolicy || !validTypePolicy || !validUniquePolicy || !validReferencePolicy || !validMultiValueReferencePolicy || !validStorage || !validMemoryBudget || !validLoadParallelism || !validLoadChunkSize || !validCsvParser || !validSampleSize || !validSampleFraction || !validStreamingBatchSize || !validTableWriter || !validConnectionPoolSize || !validRowsPerCommit || !validCheckpointFile || !validCopyPipelineDepth || !validReferenceCounter || !validSimilarTablesGrouping) {
             throw new RuntimeException("Invalid configuration");
         }
     }
@@ -298,20 +590,24 @@ public class XmlConfiguration implements Configuration {
         private static final String URL_TAG = "url";
         private static final String USERNAME_TAG = "username";
         private static final String PASSWORD_TAG = "password";
+        private static final String CONNECTION_POOL_SIZE_TAG = "connection-pool-size";
         private static final String DEFAULT_DRIVER_CLASS_NAME = "org.postgresql.Driver";
         private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432";
         private static final String DEFAULT_USERNAME = "user";
         private static final String DEFAULT_PASSWORD = "password";
+        private static final int DEFAULT_CONNECTION_POOL_SIZE = 1;
         private String driverClassName;
         private String url;
         private String username;
         private String password;
+        private int connectionPoolSize;
 
         private XmlDbmsConfiguration() {
             this.driverClassName = DEFAULT_DRIVER_CLASS_NAME;
             this.url = DEFAULT_URL;
             this.username = DEFAULT_USERNAME;
             this.password = DEFAULT_PASSWORD;
+            this.connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
         }
 
         public static XmlDbmsConfiguration newInstance() {
@@ -348,6 +644,11 @@ public class XmlConfiguration implements Configuration {
             return this.password;
         }
 
+        @Override
+        public int connectionPoolSize() {
+            return this.connectionPoolSize;
+        }
+
         private static void loadConfiguration(NodeList configurationEntries) {
             if (configurationEntries.getLength() == 0) {
                 throw new RuntimeException("Unable to load dbms-configuration");
@@ -365,6 +666,7 @@ public class XmlConfiguration implements Configuration {
                     case URL_TAG -> XmlDbmsConfigurationHolder.XML_DBMS_CONFIGURATION.url = configurationEntry.getTextContent();
                     case USERNAME_TAG -> XmlDbmsConfigurationHolder.XML_DBMS_CONFIGURATION.username = configurationEntry.getTextContent();
                     case PASSWORD_TAG -> XmlDbmsConfigurationHolder.XML_DBMS_CONFIGURATION.password = configurationEntry.getTextContent();
+                    case CONNECTION_POOL_SIZE_TAG -> XmlDbmsConfigurationHolder.XML_DBMS_CONFIGURATION.connectionPoolSize = Integer.parseInt(configurationEntry.getTextContent());
                 }
             }
         }
@@ -383,6 +685,9 @@ public class XmlConfiguration implements Configuration {
             Element passwordNode = document.createElement(PASSWORD_TAG);
             passwordNode.setTextContent(this.password);
             configurationNode.appendChild(passwordNode);
+            Element connectionPoolSizeNode = document.createElement(CONNECTION_POOL_SIZE_TAG);
+            connectionPoolSizeNode.setTextContent(Integer.toString(this.connectionPoolSize));
+            configurationNode.appendChild(connectionPoolSizeNode);
             return configurationNode;
         }
 
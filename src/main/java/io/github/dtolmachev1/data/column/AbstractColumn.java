@@ -0,0 +1,295 @@
+package io.github.dtolmachev1.data.column;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public abstract class AbstractColumn<E> implements Column<E> {
+    protected static final int DEFAULT_CAPACITY = 16;
+    protected static final int REFERENCE_SIZE = 8;
+    private static final int OBJECT_HEADER_SIZE = 16;
+    private static final int STRING_SIZE = 24;
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private String name;
+    private ColumnType type;
+    private final ColumnStatistics statistics;
+    private RowSet rows;
+    private int length;
+    private int version;
+
+    protected AbstractColumn(String name, ColumnType type) {
+        this.name = name;
+        this.type = type;
+        this.statistics = new ColumnStatistics();
+        this.rows = new RowSet();
+        this.rows.bind(this);
+        this.length = 0;
+        this.version = 0;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public ColumnType getType() {
+        return this.type;
+    }
+
+    @Override
+    public void setType(ColumnType type) {
+        this.type = type;
+    }
+
+    @Override
+    public void updateType() {
+        if (this.type.name().equals(StringType.TYPE_NAME)) {
+            ((StringType) this.type).setMaxLength(this.statistics.maxLength());
+        }
+    }
+
+    @Override
+    public RowSet rows() {
+        return this.rows;
+    }
+
+    @Override
+    public void setRows(RowSet rows) {
+        if (rows == this.rows) {
+            return;
+        }
+        boolean changed = !rows.matches(this.rows, this.length);
+        this.rows.unbind(this);
+        this.rows = rows;
+        this.rows.bind(this);
+        if (changed) {
+            this.statistics.clear();
+            forEach(entry -> this.statistics.add(entry.getValue()));
+            modified();
+        }
+    }
+
+    @Override
+    public ColumnStatistics statistics() {
+        return this.statistics;
+    }
+
+    @Override
+    public int version() {
+        return this.version;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.rows.size(this.length);
+    }
+
+    @Override
+    public void clear() {
+        this.rows.unbind(this);
+        this.rows = new RowSet();
+        this.rows.bind(this);
+        this.length = 0;
+        this.statistics.clear();
+        modified();
+    }
+
+    @Override
+    public boolean contains(Integer id) {
+        return Objects.nonNull(id) && contains(id.intValue());
+    }
+
+    @Override
+    public E get(Integer id) {
+        return contains(id) ? value(id) : null;
+    }
+
+    @Override
+    public Integer add(E value) {
+        int id = this.length;
+        add(id, value);
+        return id;
+    }
+
+    @Override
+    public boolean add(Integer id, E value) {
+        if (!insert(id)) {
+            return false;
+        }
+        store(id, value);
+        this.statistics.add(value);
+        return true;
+    }
+
+    @Override
+    public boolean set(Integer id, E value) {
+        if (!contains(id)) {
+            return false;
+        }
+        this.statistics.remove(value(id));
+        replace(id, value);
+        this.statistics.add(value);
+        modified();
+        return true;
+    }
+
+    @Override
+    public E remove(Integer id) {
+        if (!contains(id)) {
+            return null;
+        }
+        E value = value(id);
+        this.rows.remove(id);
+        return value;
+    }
+
+    @Override
+    public Stream<Map.Entry<Integer, E>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Stream<Map.Entry<Integer, E>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<Map.Entry<Integer, E>> iterator() {
+        return new RowIterator();
+    }
+
+    @Override
+    public Spliterator<Map.Entry<Integer, E>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    protected boolean contains(int id) {
+        return id < this.length && this.rows.contains(id);
+    }
+
+    protected int nextId() {
+        return this.length;
+    }
+
+    protected boolean insert(int id) {
+        if (id < 0 || contains(id)) {
+            return false;
+        }
+        if (id >= this.length) {
+            ensureCapacity(id + 1);
+            this.length = id + 1;
+        }
+        this.rows.add(id, this);
+        modified();
+        return true;
+    }
+
+    protected void modified() {
+        this.version += 1;
+    }
+
+    protected void checkId(int id) {
+        if (!contains(id)) {
+            throw new RuntimeException("Unable to find value in the column");
+        }
+    }
+
+    protected static long heapSize(Object value) {
+        if (value instanceof String stringValue) {
+            return STRING_SIZE + ARRAY_HEADER_SIZE + stringValue.length();
+        }
+        return Objects.isNull(value) ? 0 : OBJECT_HEADER_SIZE + Long.BYTES;
+    }
+
+    protected static int newCapacity(int currentCapacity, int minCapacity) {
+        return Math.max(minCapacity, currentCapacity + (currentCapacity >> 1));
+    }
+
+    void rowAdded(int id) {
+        if (id < this.length) {
+            this.statistics.add(value(id));
+            modified();
+        }
+    }
+
+    void rowRemoved(int id) {
+        if (id < this.length) {
+            this.statistics.remove(value(id));
+            modified();
+        }
+    }
+
+    void rowsCleared() {
+        this.statistics.clear();
+        modified();
+    }
+
+    protected void replace(int id, E value) {
+        store(id, value);
+    }
+
+    protected abstract E value(int id);
+
+    protected abstract void store(int id, E value);
+
+    protected abstract void ensureCapacity(int capacity);
+
+    private class RowIterator implements Iterator<Map.Entry<Integer, E>> {
+        private int next;
+        private int last;
+
+        private RowIterator() {
+            this.next = nextRow(0);
+            this.last = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next >= 0;
+        }
+
+        @Override
+        public Map.Entry<Integer, E> next() {
+            if (this.next < 0) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            this.next = nextRow(this.next + 1);
+            return new AbstractMap.SimpleImmutableEntry<>(this.last, value(this.last));
+        }
+
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            AbstractColumn.this.remove(this.last);
+            this.last = -1;
+        }
+
+        private int nextRow(int fromId) {
+            int id = rows.next(fromId);
+            return id < length ? id : -1;
+        }
+    }
+}
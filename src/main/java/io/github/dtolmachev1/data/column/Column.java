@@ -14,6 +14,14 @@ public interface Column<E> extends Iterable<Map.Entry<Integer, E>> {
 
     void updateType();
 
+    RowSet rows();
+
+    void setRows(RowSet rows);
+
+    ColumnStatistics statistics();
+
+    int version();
+
     boolean isEmpty();
 
     int size();
@@ -0,0 +1,13 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.storage.Storage;
+
+public class ColumnFactory {
+    public static Column<String> getStringColumn(String name, ColumnType type, Storage storage) {
+        if (storage.name().equals(HeapStorage.STORAGE_NAME)) {
+            return new GenericColumn<>(name, type);
+        }
+        return new StringColumn(name, type, storage);
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.dtolmachev1.data.column;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class ColumnStatistics {
+    private static final int REGISTER_BITS = 10;
+    private static final int REGISTER_COUNT = 1 << REGISTER_BITS;
+    private static final double REGISTER_ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private final byte[] registers;
+    private final NumberParser numberParser;
+    private int[] lengthCounts;
+    private int rowCount;
+    private int lengthCount;
+    private int minLength;
+    private int maxLength;
+    private double minValue;
+    private double maxValue;
+    private int integerCount;
+    private int doubleCount;
+
+    public ColumnStatistics() {
+        this.registers = new byte[REGISTER_COUNT];
+        this.numberParser = new NumberParser();
+        this.lengthCounts = new int[0];
+        clear();
+    }
+
+    public int rowCount() {
+        return this.rowCount;
+    }
+
+    public int minLength() {
+        return this.minLength;
+    }
+
+    public int maxLength() {
+        return this.maxLength;
+    }
+
+    public double minValue() {
+        return this.minValue;
+    }
+
+    public double maxValue() {
+        return this.maxValue;
+    }
+
+    public int integerCount() {
+        return this.integerCount;
+    }
+
+    public int doubleCount() {
+        return this.doubleCount;
+    }
+
+    public int distinctCount() {
+        double sum = 0;
+        int zeroCount = 0;
+        for (byte register : this.registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroCount += 1;
+            }
+        }
+        double estimate = REGISTER_ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroCount > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroCount);
+        }
+        return (int) Math.min(Math.round(estimate), this.rowCount);
+    }
+
+    public double distinctCountError() {
+        return 1.04 / Math.sqrt(REGISTER_COUNT);
+    }
+
+    public void clear() {
+        Arrays.fill(this.registers, (byte) 0);
+        Arrays.fill(this.lengthCounts, 0);
+        this.rowCount = 0;
+        this.lengthCount = 0;
+        this.minLength = 0;
+        this.maxLength = 0;
+        this.minValue = Double.NaN;
+        this.maxValue = Double.NaN;
+        this.integerCount = 0;
+        this.doubleCount = 0;
+    }
+
+    public void add(Object value) {
+        if (value instanceof String stringValue) {
+            add(stringValue);
+        } else if (value instanceof Integer integerValue) {
+            add(integerValue.intValue());
+        } else if (value instanceof Double doubleValue) {
+            add(doubleValue.doubleValue());
+        } else {
+            this.rowCount += 1;
+            if (Objects.nonNull(value)) {
+                addHash(value.hashCode());
+            }
+        }
+    }
+
+    public void add(String value) {
+        this.rowCount += 1;
+        if (Objects.isNull(value)) {
+            return;
+        }
+        addHash(value.hashCode());
+        addLength(value.length());
+        int result = this.numberParser.parse(value);
+        if (NumberParser.isInteger(result)) {
+            this.integerCount += 1;
+        }
+        if (NumberParser.isDouble(result)) {
+            this.doubleCount += 1;
+            addValue(this.numberParser.doubleValue());
+        }
+    }
+
+    public void add(int value) {
+        this.rowCount += 1;
+        this.integerCount += 1;
+        this.doubleCount += 1;
+        addHash(Integer.hashCode(value));
+        addValue(value);
+    }
+
+    public void add(double value) {
+        this.rowCount += 1;
+        this.doubleCount += 1;
+        addHash(Double.hashCode(value));
+        addValue(value);
+    }
+
+    public void merge(ColumnStatistics statistics) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (statistics.registers[i] > this.registers[i]) {
+                this.registers[i] = statistics.registers[i];
+            }
+        }
+        if (statistics.lengthCounts.length > this.lengthCounts.length) {
+            this.lengthCounts = Arrays.copyOf(this.lengthCounts, statistics.lengthCounts.length);
+        }
+        for (int length = 0; length < statistics.lengthCounts.length; length++) {
+            this.lengthCounts[length] += statistics.lengthCounts[length];
+        }
+        if (statistics.lengthCount > 0) {
+            if (this.lengthCount == 0 || statistics.minLength < this.minLength) {
+                this.minLength = statistics.minLength;
+            }
+            if (this.lengthCount == 0 || statistics.maxLength > this.maxLength) {
+                this.maxLength = statistics.maxLength;
+            }
+        }
+        this.rowCount += statistics.rowCount;
+        this.lengthCount += statistics.lengthCount;
+        addValue(statistics.minValue);
+        addValue(statistics.maxValue);
+        this.integerCount += statistics.integerCount;
+        this.doubleCount += statistics.doubleCount;
+    }
+
+    public void remove(Object value) {
+        if (value instanceof String stringValue) {
+            remove(stringValue);
+        } else if (value instanceof Integer integerValue) {
+            remove(integerValue.intValue());
+        } else if (value instanceof Double doubleValue) {
+            remove(doubleValue.doubleValue());
+        } else {
+            this.rowCount -= 1;
+        }
+    }
+
+    public void remove(String value) {
+        this.rowCount -= 1;
+        if (Objects.isNull(value)) {
+            return;
+        }
+        removeLength(value.length());
+        int result = NumberParser.recognize(value);
+        if (NumberParser.isInteger(result)) {
+            this.integerCount -= 1;
+        }
+        if (NumberParser.isDouble(result)) {
+            this.doubleCount -= 1;
+        }
+    }
+
+    public void remove(int value) {
+        this.rowCount -= 1;
+        this.integerCount -= 1;
+        this.doubleCount -= 1;
+    }
+
+    public void remove(double value) {
+        this.rowCount -= 1;
+        this.doubleCount -= 1;
+    }
+
+    private void addHash(int hashCode) {
+        long hash = (hashCode ^ ((long) hashCode << 32)) * HASH_MULTIPLIER;
+        hash ^= hash >>> 29;
+        hash *= HASH_MULTIPLIER;
+        int register = (int) (hash >>> (Long.SIZE - REGISTER_BITS));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << REGISTER_BITS) | (1L << (REGISTER_BITS - 1))) + 1);
+        if (rank > this.registers[register]) {
+            this.registers[register] = rank;
+        }
+    }
+
+    private void addLength(int length) {
+        if (length >= this.lengthCounts.length) {
+            this.lengthCounts = Arrays.copyOf(this.lengthCounts, Math.max(length + 1, this.lengthCounts.length << 1));
+        }
+        if (this.lengthCount == 0 || length < this.minLength) {
+            this.minLength = length;
+        }
+        if (this.lengthCount == 0 || length > this.maxLength) {
+            this.maxLength = length;
+        }
+        this.lengthCounts[length] += 1;
+        this.lengthCount += 1;
+    }
+
+    private void removeLength(int length) {
+        this.lengthCounts[length] -= 1;
+        this.lengthCount -= 1;
+        if (this.lengthCount == 0) {
+            this.minLength = 0;
+            this.maxLength = 0;
+            return;
+        }
+        if (this.lengthCounts[length] > 0) {
+            return;
+        }
+        if (length == this.maxLength) {
+            while (this.maxLength > 0 && this.lengthCounts[this.maxLength] == 0) {
+                this.maxLength -= 1;
+            }
+        }
+        if (length == this.minLength) {
+            while (this.minLength < this.maxLength && this.lengthCounts[this.minLength] == 0) {
+                this.minLength += 1;
+            }
+        }
+    }
+
+    private void addValue(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (Double.isNaN(this.minValue) || value < this.minValue) {
+            this.minValue = value;
+        }
+        if (Double.isNaN(this.maxValue) || value > this.maxValue) {
+            this.maxValue = value;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.storage.Region;
+import io.github.dtolmachev1.data.storage.Storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class DictionaryColumn extends AbstractColumn<String> implements SpillableColumn {
+    private static final int ENTRY_SIZE = 64;
+    private final Region codes;
+    private final List<String> values;
+    private final Map<String, Integer> dictionary;
+    private long dictionarySize;
+
+    public DictionaryColumn(String name) {
+        this(name, HeapStorage.newInstance());
+    }
+
+    public DictionaryColumn(String name, Storage storage) {
+        this(name, ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), storage);
+    }
+
+    public DictionaryColumn(String name, ColumnType type, Storage storage) {
+        super(name, type);
+        this.codes = new Region(storage);
+        this.values = new ArrayList<>();
+        this.dictionary = new HashMap<>();
+        this.dictionarySize = 0;
+    }
+
+    public int getCode(int id) {
+        checkId(id);
+        return this.codes.getInt(position(id));
+    }
+
+    public int cardinality() {
+        return this.values.size();
+    }
+
+    public String decode(int code) {
+        return this.values.get(code);
+    }
+
+    public int encode(String value) {
+        return this.dictionary.getOrDefault(value, -1);
+    }
+
+    public int[] countCodes() {
+        int[] counts = new int[cardinality()];
+        rows().stream()
+                .filter(this::contains)
+                .forEach(id -> counts[this.codes.getInt(position(id))] += 1);
+        return counts;
+    }
+
+    public void append(DictionaryColumn column) {
+        int[] codeMap = new int[column.cardinality()];
+        for (int code = 0; code < codeMap.length; code++) {
+            codeMap[code] = encodeOrAdd(column.decode(code));
+        }
+        RowSet columnRows = column.rows();
+        for (int id = columnRows.next(0); id >= 0; id = columnRows.next(id + 1)) {
+            if (column.contains(id)) {
+                int newId = nextId();
+                insert(newId);
+                this.codes.putInt(position(newId), codeMap[column.getCode(id)]);
+            }
+        }
+        statistics().merge(column.statistics());
+    }
+
+    @Override
+    public long heapSize() {
+        return this.dictionarySize;
+    }
+
+    @Override
+    public List<Region> regions() {
+        return List.of(this.codes);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.codes.clear();
+        this.values.clear();
+        this.dictionary.clear();
+        this.dictionarySize = 0;
+        release();
+    }
+
+    @Override
+    protected String value(int id) {
+        return this.values.get(this.codes.getInt(position(id)));
+    }
+
+    @Override
+    protected void store(int id, String value) {
+        this.codes.putInt(position(id), encodeOrAdd(value));
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        this.codes.ensureCapacity(position(capacity));
+    }
+
+    private int encodeOrAdd(String value) {
+        Integer code = this.dictionary.get(value);
+        if (Objects.isNull(code)) {
+            code = this.values.size();
+            this.values.add(value);
+            this.dictionary.put(value, code);
+            this.dictionarySize += heapSize(value) + ENTRY_SIZE;
+        }
+        return code;
+    }
+
+    private static long position(int id) {
+        return (long) id << 2;
+    }
+}
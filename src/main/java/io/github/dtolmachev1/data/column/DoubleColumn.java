@@ -0,0 +1,82 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.storage.Region;
+import io.github.dtolmachev1.data.storage.Storage;
+
+import java.util.List;
+
+public class DoubleColumn extends AbstractColumn<Double> implements SpillableColumn {
+    private final Region data;
+
+    public DoubleColumn(String name) {
+        this(name, HeapStorage.newInstance());
+    }
+
+    public DoubleColumn(String name, Storage storage) {
+        super(name, ColumnTypeFactory.getColumnType(DoubleType.TYPE_NAME));
+        this.data = new Region(storage);
+    }
+
+    public double getDouble(int id) {
+        checkId(id);
+        return this.data.getDouble(position(id));
+    }
+
+    public int addDouble(double value) {
+        int id = nextId();
+        addDouble(id, value);
+        return id;
+    }
+
+    public boolean addDouble(int id, double value) {
+        if (!insert(id)) {
+            return false;
+        }
+        this.data.putDouble(position(id), value);
+        statistics().add(value);
+        return true;
+    }
+
+    public boolean setDouble(int id, double value) {
+        if (!contains(id)) {
+            return false;
+        }
+        statistics().remove(this.data.getDouble(position(id)));
+        this.data.putDouble(position(id), value);
+        statistics().add(value);
+        modified();
+        return true;
+    }
+
+    @Override
+    public List<Region> regions() {
+        return List.of(this.data);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.data.clear();
+        release();
+    }
+
+    @Override
+    protected Double value(int id) {
+        return this.data.getDouble(position(id));
+    }
+
+    @Override
+    protected void store(int id, Double value) {
+        this.data.putDouble(position(id), value);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        this.data.ensureCapacity(position(capacity));
+    }
+
+    private static long position(int id) {
+        return (long) id << 3;
+    }
+}
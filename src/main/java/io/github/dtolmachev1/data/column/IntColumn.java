@@ -0,0 +1,82 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.storage.Region;
+import io.github.dtolmachev1.data.storage.Storage;
+
+import java.util.List;
+
+public class IntColumn extends AbstractColumn<Integer> implements SpillableColumn {
+    private final Region data;
+
+    public IntColumn(String name) {
+        this(name, HeapStorage.newInstance());
+    }
+
+    public IntColumn(String name, Storage storage) {
+        super(name, ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME));
+        this.data = new Region(storage);
+    }
+
+    public int getInt(int id) {
+        checkId(id);
+        return this.data.getInt(position(id));
+    }
+
+    public int addInt(int value) {
+        int id = nextId();
+        addInt(id, value);
+        return id;
+    }
+
+    public boolean addInt(int id, int value) {
+        if (!insert(id)) {
+            return false;
+        }
+        this.data.putInt(position(id), value);
+        statistics().add(value);
+        return true;
+    }
+
+    public boolean setInt(int id, int value) {
+        if (!contains(id)) {
+            return false;
+        }
+        statistics().remove(this.data.getInt(position(id)));
+        this.data.putInt(position(id), value);
+        statistics().add(value);
+        modified();
+        return true;
+    }
+
+    @Override
+    public List<Region> regions() {
+        return List.of(this.data);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.data.clear();
+        release();
+    }
+
+    @Override
+    protected Integer value(int id) {
+        return this.data.getInt(position(id));
+    }
+
+    @Override
+    protected void store(int id, Integer value) {
+        this.data.putInt(position(id), value);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        this.data.ensureCapacity(position(capacity));
+    }
+
+    private static long position(int id) {
+        return (long) id << 2;
+    }
+}
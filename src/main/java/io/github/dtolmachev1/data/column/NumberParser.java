@@ -0,0 +1,255 @@
+package io.github.dtolmachev1.data.column;
+
+public class NumberParser {
+    public static final int INVALID = 0;
+    public static final int INTEGER = 1;
+    public static final int LONG = 2;
+    public static final int DECIMAL = 3;
+    private static final String NAN = "NaN";
+    private static final String INFINITY = "Infinity";
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final int MAX_EXACT_EXPONENT = 22;
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+    private static final int MAX_EXPONENT = 100000;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final ThreadLocal<NumberParser> RECOGNIZER = ThreadLocal.withInitial(NumberParser::new);
+    private long longValue;
+    private double doubleValue;
+
+    public NumberParser() {
+        this.longValue = 0;
+        this.doubleValue = 0;
+    }
+
+    public static int recognize(CharSequence value) {
+        return RECOGNIZER.get().scan(value, false);
+    }
+
+    public static boolean isInteger(int result) {
+        return result == INTEGER;
+    }
+
+    public static boolean isLong(int result) {
+        return result == INTEGER || result == LONG;
+    }
+
+    public static boolean isDouble(int result) {
+        return result != INVALID;
+    }
+
+    public int parse(CharSequence value) {
+        return scan(value, true);
+    }
+
+    public long longValue() {
+        return this.longValue;
+    }
+
+    public double doubleValue() {
+        return this.doubleValue;
+    }
+
+    private int scan(CharSequence value, boolean keepValue) {
+        int length = value.length();
+        int start = 0;
+        int end = length;
+        while (start < end && value.charAt(start) <= ' ') {
+            start += 1;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end -= 1;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+        boolean trimmed = start > 0 || end < length;
+        int i = start;
+        boolean negative = value.charAt(i) == '-';
+        if (negative || value.charAt(i) == '+') {
+            i += 1;
+        }
+        if (i == end) {
+            return INVALID;
+        }
+        if (matches(value, i, end, NAN)) {
+            return decimal(Double.NaN, keepValue);
+        }
+        if (matches(value, i, end, INFINITY)) {
+            return decimal(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY, keepValue);
+        }
+        if (value.charAt(i) == '0' && i + 1 < end && (value.charAt(i + 1) == 'x' || value.charAt(i + 1) == 'X')) {
+            return scanHexadecimal(value, start, end, keepValue);
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long accumulator = 0;
+        boolean overflow = false;
+        long significand = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int integerStart = i;
+        while (i < end && isDigit(value.charAt(i))) {
+            int digit = value.charAt(i) - '0';
+            if (!overflow && (accumulator < limit / 10 || accumulator * 10 < limit + digit)) {
+                overflow = true;
+            }
+            if (!overflow) {
+                accumulator = accumulator * 10 - digit;
+            }
+            if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                if (significand != 0 || digit != 0) {
+                    significand = significand * 10 + digit;
+                    significantDigits += 1;
+                }
+            } else {
+                exponent += 1;
+            }
+            i += 1;
+        }
+        int digitCount = i - integerStart;
+        boolean integral = true;
+        if (i < end && value.charAt(i) == '.') {
+            integral = false;
+            i += 1;
+            int fractionStart = i;
+            while (i < end && isDigit(value.charAt(i))) {
+                int digit = value.charAt(i) - '0';
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    if (significand != 0 || digit != 0) {
+                        significand = significand * 10 + digit;
+                        significantDigits += 1;
+                    }
+                    exponent -= 1;
+                }
+                i += 1;
+            }
+            digitCount += i - fractionStart;
+        }
+        if (digitCount == 0) {
+            return INVALID;
+        }
+        if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            integral = false;
+            i += 1;
+            boolean negativeExponent = i < end && value.charAt(i) == '-';
+            if (i < end && (negativeExponent || value.charAt(i) == '+')) {
+                i += 1;
+            }
+            int exponentStart = i;
+            int exponentValue = 0;
+            while (i < end && isDigit(value.charAt(i))) {
+                exponentValue = Math.min(MAX_EXPONENT, exponentValue * 10 + value.charAt(i) - '0');
+                i += 1;
+            }
+            if (i == exponentStart) {
+                return INVALID;
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        if (i < end && isSuffix(value.charAt(i))) {
+            integral = false;
+            i += 1;
+        }
+        if (i != end) {
+            return INVALID;
+        }
+        if (integral && !trimmed && !overflow) {
+            long result = negative ? accumulator : -accumulator;
+            if (keepValue) {
+                this.longValue = result;
+                this.doubleValue = negative && result == 0 ? -0.0 : result;
+            }
+            return result == (int) result ? INTEGER : LONG;
+        }
+        if (!keepValue) {
+            return DECIMAL;
+        }
+        if (significand == 0) {
+            return decimal(negative ? -0.0 : 0.0, true);
+        }
+        double result;
+        if (significantDigits <= MAX_EXACT_DIGITS && Math.abs(exponent) <= MAX_EXACT_EXPONENT) {
+            result = exponent < 0 ? significand / POWERS_OF_TEN[-exponent] : significand * POWERS_OF_TEN[exponent];
+            result = negative ? -result : result;
+        } else {
+            result = Double.parseDouble(value.subSequence(start, end).toString());
+        }
+        return decimal(result, true);
+    }
+
+    private int scanHexadecimal(CharSequence value, int start, int end, boolean keepValue) {
+        int i = start;
+        if (value.charAt(i) == '-' || value.charAt(i) == '+') {
+            i += 1;
+        }
+        i += 2;
+        int digitStart = i;
+        while (i < end && isHexDigit(value.charAt(i))) {
+            i += 1;
+        }
+        int digitCount = i - digitStart;
+        if (i < end && value.charAt(i) == '.') {
+            i += 1;
+            int fractionStart = i;
+            while (i < end && isHexDigit(value.charAt(i))) {
+                i += 1;
+            }
+            digitCount += i - fractionStart;
+        }
+        if (digitCount == 0 || i == end || (value.charAt(i) != 'p' && value.charAt(i) != 'P')) {
+            return INVALID;
+        }
+        i += 1;
+        if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i += 1;
+        }
+        int exponentStart = i;
+        while (i < end && isDigit(value.charAt(i))) {
+            i += 1;
+        }
+        if (i == exponentStart) {
+            return INVALID;
+        }
+        if (i < end && isSuffix(value.charAt(i))) {
+            i += 1;
+        }
+        if (i != end) {
+            return INVALID;
+        }
+        return keepValue ? decimal(Double.parseDouble(value.subSequence(start, end).toString()), true) : DECIMAL;
+    }
+
+    private int decimal(double value, boolean keepValue) {
+        if (keepValue) {
+            this.doubleValue = value;
+            this.longValue = (long) value;
+        }
+        return DECIMAL;
+    }
+
+    private static boolean matches(CharSequence value, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (value.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isHexDigit(char ch) {
+        return isDigit(ch) || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F';
+    }
+
+    private static boolean isSuffix(char ch) {
+        return ch == 'f' || ch == 'F' || ch == 'd' || ch == 'D';
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.dtolmachev1.data.column;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class RowSet {
+    private final BitSet rows;
+    private final List<AbstractColumn<?>> columns;
+    private int size;
+
+    public RowSet() {
+        this.rows = new BitSet();
+        this.columns = new ArrayList<>();
+        this.size = 0;
+    }
+
+    public RowSet(RowSet rowSet) {
+        this.rows = (BitSet) rowSet.rows.clone();
+        this.columns = new ArrayList<>();
+        this.size = rowSet.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int size(int toId) {
+        return toId >= this.rows.length() ? this.size : this.rows.get(0, toId).cardinality();
+    }
+
+    public int length() {
+        return this.rows.length();
+    }
+
+    public void clear() {
+        this.columns.forEach(AbstractColumn::rowsCleared);
+        this.rows.clear();
+        this.size = 0;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && this.rows.get(id);
+    }
+
+    public boolean add(int id) {
+        return add(id, null);
+    }
+
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        this.columns.forEach(column -> column.rowRemoved(id));
+        this.rows.clear(id);
+        this.size -= 1;
+        return true;
+    }
+
+    public boolean matches(RowSet rowSet, int toId) {
+        return this.rows.get(0, toId).equals(rowSet.rows.get(0, toId));
+    }
+
+    public int next(int fromId) {
+        return this.rows.nextSetBit(fromId);
+    }
+
+    public IntStream stream() {
+        return this.rows.stream();
+    }
+
+    boolean add(int id, AbstractColumn<?> source) {
+        if (contains(id)) {
+            return false;
+        }
+        this.rows.set(id);
+        this.size += 1;
+        this.columns.stream().filter(column -> column != source).forEach(column -> column.rowAdded(id));
+        return true;
+    }
+
+    void bind(AbstractColumn<?> column) {
+        this.columns.add(column);
+    }
+
+    void unbind(AbstractColumn<?> column) {
+        this.columns.remove(column);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.storage.MappedStorage;
+import io.github.dtolmachev1.data.storage.Region;
+import io.github.dtolmachev1.data.storage.Storage;
+
+import java.util.List;
+
+public interface SpillableColumn {
+    List<Region> regions();
+
+    default boolean isSpilled() {
+        return regions().stream().allMatch(region -> region.storage().name().equals(MappedStorage.STORAGE_NAME));
+    }
+
+    default long heapSize() {
+        return 0;
+    }
+
+    default long memorySize() {
+        return regions().stream()
+                .filter(region -> !region.storage().name().equals(MappedStorage.STORAGE_NAME))
+                .mapToLong(Region::capacity)
+                .sum() + heapSize();
+    }
+
+    default void spill(Storage storage) {
+        regions().forEach(region -> region.moveTo(storage));
+    }
+
+    default void release() {
+        regions().stream()
+                .map(Region::storage)
+                .distinct()
+                .forEach(Storage::release);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.storage.Region;
+import io.github.dtolmachev1.data.storage.Storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+public class StringColumn extends AbstractColumn<String> implements SpillableColumn {
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final long NULL_OFFSET = -1;
+    private static final long COMPACTION_THRESHOLD = 1 << 20;
+    private final Region offsets;
+    private final Region arena;
+    private long arenaLength;
+    private long deadLength;
+
+    public StringColumn(String name) {
+        this(name, HeapStorage.newInstance());
+    }
+
+    public StringColumn(String name, Storage storage) {
+        this(name, ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), storage);
+    }
+
+    public StringColumn(String name, ColumnType type, Storage storage) {
+        super(name, type);
+        this.offsets = new Region(storage);
+        this.arena = new Region(storage);
+        this.arenaLength = 0;
+        this.deadLength = 0;
+    }
+
+    @Override
+    public List<Region> regions() {
+        return List.of(this.offsets, this.arena);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.offsets.clear();
+        this.arena.clear();
+        this.arenaLength = 0;
+        this.deadLength = 0;
+        release();
+    }
+
+    @Override
+    protected String value(int id) {
+        long offset = this.offsets.getLong(position(id));
+        if (offset == NULL_OFFSET) {
+            return null;
+        }
+        byte[] bytes = new byte[this.arena.getInt(offset)];
+        this.arena.get(offset + HEADER_SIZE, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void store(int id, String value) {
+        if (Objects.isNull(value)) {
+            this.offsets.putLong(position(id), NULL_OFFSET);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long offset = this.arenaLength;
+        this.arena.ensureCapacity(offset + entrySize(bytes.length));
+        write(offset, bytes);
+        this.arenaLength += entrySize(bytes.length);
+        this.offsets.putLong(position(id), offset);
+    }
+
+    @Override
+    protected void replace(int id, String value) {
+        long offset = this.offsets.getLong(position(id));
+        if (offset == NULL_OFFSET) {
+            store(id, value);
+            return;
+        }
+        long previousSize = entrySize(this.arena.getInt(offset));
+        if (Objects.nonNull(value)) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (entrySize(bytes.length) <= previousSize) {
+                write(offset, bytes);
+                this.deadLength += previousSize - entrySize(bytes.length);
+                return;
+            }
+        }
+        this.deadLength += previousSize;
+        store(id, value);
+        if (this.arenaLength >= COMPACTION_THRESHOLD && this.deadLength > this.arenaLength >> 1) {
+            compact();
+        }
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        this.offsets.ensureCapacity(position(capacity));
+    }
+
+    private void write(long offset, byte[] bytes) {
+        this.arena.putInt(offset, bytes.length);
+        this.arena.put(offset + HEADER_SIZE, bytes);
+    }
+
+    private void compact() {
+        int length = nextId();
+        long[] entries = IntStream.range(0, length)
+                .mapToLong(id -> this.offsets.getLong(position(id)))
+                .filter(offset -> offset != NULL_OFFSET && offset < this.arenaLength)
+                .sorted()
+                .distinct()
+                .toArray();
+        long[] newEntries = new long[entries.length];
+        long newLength = 0;
+        for (int i = 0; i < entries.length; i++) {
+            byte[] bytes = new byte[this.arena.getInt(entries[i])];
+            this.arena.get(entries[i] + HEADER_SIZE, bytes);
+            write(newLength, bytes);
+            newEntries[i] = newLength;
+            newLength += entrySize(bytes.length);
+        }
+        for (int id = 0; id < length; id++) {
+            int index = Arrays.binarySearch(entries, this.offsets.getLong(position(id)));
+            if (index >= 0) {
+                this.offsets.putLong(position(id), newEntries[index]);
+            }
+        }
+        this.arenaLength = newLength;
+        this.deadLength = 0;
+    }
+
+    private static long entrySize(int length) {
+        return (HEADER_SIZE + length + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+
+    private static long position(int id) {
+        return (long) id << 3;
+    }
+}
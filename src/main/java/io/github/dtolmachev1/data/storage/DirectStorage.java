@@ -0,0 +1,28 @@
+package io.github.dtolmachev1.data.storage;
+
+import java.nio.ByteBuffer;
+
+public class DirectStorage implements Storage {
+    public static final String STORAGE_NAME = "direct";
+
+    private DirectStorage() {
+    }
+
+    public static DirectStorage newInstance() {
+        return DirectStorageHolder.DIRECT_STORAGE;
+    }
+
+    @Override
+    public String name() {
+        return STORAGE_NAME;
+    }
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    private static class DirectStorageHolder {
+        private static final DirectStorage DIRECT_STORAGE = new DirectStorage();
+    }
+}
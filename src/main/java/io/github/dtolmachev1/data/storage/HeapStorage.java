@@ -0,0 +1,28 @@
+package io.github.dtolmachev1.data.storage;
+
+import java.nio.ByteBuffer;
+
+public class HeapStorage implements Storage {
+    public static final String STORAGE_NAME = "heap";
+
+    private HeapStorage() {
+    }
+
+    public static HeapStorage newInstance() {
+        return HeapStorageHolder.HEAP_STORAGE;
+    }
+
+    @Override
+    public String name() {
+        return STORAGE_NAME;
+    }
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocate(capacity);
+    }
+
+    private static class HeapStorageHolder {
+        private static final HeapStorage HEAP_STORAGE = new HeapStorage();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.dtolmachev1.data.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public class MappedStorage implements Storage {
+    public static final String STORAGE_NAME = "mapped";
+    private final Path path;
+    private FileChannel channel;
+    private long length;
+
+    public MappedStorage(Path path) {
+        this.path = path;
+        this.length = 0;
+        path.toFile().deleteOnExit();
+    }
+
+    @Override
+    public String name() {
+        return STORAGE_NAME;
+    }
+
+    public Path path() {
+        return this.path;
+    }
+
+    @Override
+    public synchronized ByteBuffer allocate(int capacity) {
+        try {
+            if (Objects.isNull(this.channel)) {
+                this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            ByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, this.length, capacity);
+            this.length += capacity;
+            return buffer;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to map column file");
+        }
+    }
+
+    @Override
+    public synchronized void release() {
+        try {
+            if (Objects.nonNull(this.channel)) {
+                this.channel.close();
+                this.channel = null;
+            }
+            Files.deleteIfExists(this.path);
+            this.length = 0;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to release column file");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.dtolmachev1.data.storage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Region {
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MIN_CHUNK_SIZE = 256;
+    private Storage storage;
+    private final List<ByteBuffer> chunks;
+    private long capacity;
+
+    public Region(Storage storage) {
+        this.storage = storage;
+        this.chunks = new ArrayList<>();
+        this.capacity = 0;
+    }
+
+    public Storage storage() {
+        return this.storage;
+    }
+
+    public long capacity() {
+        return this.capacity;
+    }
+
+    public void ensureCapacity(long capacity) {
+        if (capacity <= this.capacity) {
+            return;
+        }
+        if (this.chunks.size() <= 1 && this.capacity < CHUNK_SIZE) {
+            int chunkSize = (int) Math.min(CHUNK_SIZE, Math.max(capacity, Math.max(MIN_CHUNK_SIZE, this.capacity << 1)));
+            ByteBuffer chunk = this.storage.allocate(chunkSize);
+            if (!this.chunks.isEmpty()) {
+                chunk.put(0, this.chunks.get(0), 0, (int) this.capacity);
+                this.chunks.set(0, chunk);
+            } else {
+                this.chunks.add(chunk);
+            }
+            this.capacity = chunkSize;
+        }
+        while (this.capacity < capacity) {
+            this.chunks.add(this.storage.allocate(CHUNK_SIZE));
+            this.capacity += CHUNK_SIZE;
+        }
+    }
+
+    public void moveTo(Storage storage) {
+        for (int i = 0; i < this.chunks.size(); i++) {
+            ByteBuffer chunk = storage.allocate(this.chunks.get(i).capacity());
+            chunk.put(0, this.chunks.get(i), 0, chunk.capacity());
+            this.chunks.set(i, chunk);
+        }
+        this.storage = storage;
+    }
+
+    public void clear() {
+        this.chunks.clear();
+        this.capacity = 0;
+    }
+
+    public byte getByte(long position) {
+        return chunk(position).get(offset(position));
+    }
+
+    public void putByte(long position, byte value) {
+        chunk(position).put(offset(position), value);
+    }
+
+    public int getInt(long position) {
+        return chunk(position).getInt(offset(position));
+    }
+
+    public void putInt(long position, int value) {
+        chunk(position).putInt(offset(position), value);
+    }
+
+    public long getLong(long position) {
+        return chunk(position).getLong(offset(position));
+    }
+
+    public void putLong(long position, long value) {
+        chunk(position).putLong(offset(position), value);
+    }
+
+    public double getDouble(long position) {
+        return chunk(position).getDouble(offset(position));
+    }
+
+    public void putDouble(long position, double value) {
+        chunk(position).putDouble(offset(position), value);
+    }
+
+    public void get(long position, byte[] bytes) {
+        int copied = 0;
+        while (copied < bytes.length) {
+            int offset = offset(position + copied);
+            int length = Math.min(bytes.length - copied, chunk(position + copied).capacity() - offset);
+            chunk(position + copied).get(offset, bytes, copied, length);
+            copied += length;
+        }
+    }
+
+    public void put(long position, byte[] bytes) {
+        int copied = 0;
+        while (copied < bytes.length) {
+            int offset = offset(position + copied);
+            int length = Math.min(bytes.length - copied, chunk(position + copied).capacity() - offset);
+            chunk(position + copied).put(offset, bytes, copied, length);
+            copied += length;
+        }
+    }
+
+    private ByteBuffer chunk(long position) {
+        return this.chunks.get((int) (position >>> CHUNK_SHIFT));
+    }
+
+    private static int offset(long position) {
+        return (int) (position & CHUNK_MASK);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.dtolmachev1.data.storage;
+
+import java.nio.ByteBuffer;
+
+public interface Storage {
+    String name();
+
+    ByteBuffer allocate(int capacity);
+
+    default void release() {
+    }
+}
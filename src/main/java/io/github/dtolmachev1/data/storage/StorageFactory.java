@@ -0,0 +1,17 @@
+package io.github.dtolmachev1.data.storage;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class StorageFactory {
+    private static final Map<String, Supplier<Storage>> STORAGES = Map.ofEntries(
+            new AbstractMap.SimpleImmutableEntry<>(HeapStorage.STORAGE_NAME, HeapStorage::newInstance),
+            new AbstractMap.SimpleImmutableEntry<>(DirectStorage.STORAGE_NAME, DirectStorage::newInstance)
+    );
+
+    public static Storage getStorage(String name) {
+        return Objects.requireNonNullElse(STORAGES.get(name), () -> null).get();
+    }
+}
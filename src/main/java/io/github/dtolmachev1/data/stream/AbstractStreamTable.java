@@ -0,0 +1,218 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.ColumnFactory;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.storage.HeapStorage;
+import io.github.dtolmachev1.data.table.GenericTable;
+import io.github.dtolmachev1.data.table.Table;
+import io.github.dtolmachev1.data.table.UniqueConstraint;
+import jakarta.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public abstract class AbstractStreamTable implements StreamTable {
+    private String name;
+    private final List<StreamConstraint> constraints;
+    private final Map<String, StreamColumn> data;
+    private final BitSet removedRows;
+    private int version;
+    private volatile int scannedRows;
+
+    protected AbstractStreamTable(String name) {
+        this.name = name;
+        this.constraints = new ArrayList<>();
+        this.data = new LinkedHashMap<>();
+        this.removedRows = new BitSet();
+        this.version = 0;
+        this.scannedRows = 0;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void addConstraint(StreamConstraint constraint) {
+        this.constraints.add(constraint);
+    }
+
+    @Override
+    public List<StreamConstraint> constraints() {
+        return List.copyOf(this.constraints);
+    }
+
+    @Override
+    public Optional<StreamColumn> columnWithUniqueConstraint() {
+        return this.constraints.stream()
+                .filter(constraint -> constraint.name().equals(UniqueConstraint.CONSTRAINT_NAME))
+                .findAny()
+                .map(StreamConstraint::column);
+    }
+
+    @Override
+    public int version() {
+        return this.version;
+    }
+
+    @Override
+    public boolean removeRow(int ordinal) {
+        if (this.removedRows.get(ordinal)) {
+            return false;
+        }
+        this.removedRows.set(ordinal);
+        this.version += 1;
+        return true;
+    }
+
+    @Override
+    public int rowCount() {
+        return this.scannedRows - this.removedRows.cardinality();
+    }
+
+    @Override
+    public void forEachRow(Consumer<StreamRow> action) {
+        int[] rowCount = {0};
+        scan(row -> {
+            rowCount[0] += 1;
+            if (!this.removedRows.get(row.ordinal())) {
+                action.accept(row);
+            }
+        });
+        this.scannedRows = rowCount[0];
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<Table> action) {
+        if (this.data.isEmpty()) {
+            return;
+        }
+        List<StreamColumn> columns = List.copyOf(this.data.values());
+        List<Column<?>> batchColumns = new ArrayList<>();
+        Table[] batch = {createBatch(columns, batchColumns)};
+        forEachRow(row -> {
+            addRow(row, columns, batchColumns);
+            if (batchColumns.get(0).size() == batchSize) {
+                action.accept(batch[0]);
+                batch[0] = createBatch(columns, batchColumns);
+            }
+        });
+        if (!batchColumns.get(0).isEmpty()) {
+            action.accept(batch[0]);
+        }
+    }
+
+    @Override
+    public Table schema() {
+        Table table = new GenericTable(this.name);
+        this.data.values().forEach(column -> table.add(createColumn(column)));
+        return table;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.data.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.data.size();
+    }
+
+    @Override
+    public void clear() {
+        this.data.clear();
+    }
+
+    @Override
+    public boolean contains(String columnName) {
+        return this.data.containsKey(columnName);
+    }
+
+    @Override
+    public StreamColumn get(String columnName) {
+        return this.data.get(columnName);
+    }
+
+    @Override
+    public boolean add(StreamColumn column) {
+        return Objects.isNull(this.data.putIfAbsent(column.getName(), column));
+    }
+
+    @Override
+    public StreamColumn remove(String columnName) {
+        return this.data.remove(columnName);
+    }
+
+    @Override
+    public Stream<Map.Entry<String, StreamColumn>> stream() {
+        return this.data.entrySet().stream();
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<Map.Entry<String, StreamColumn>> iterator() {
+        return this.data.entrySet().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Map.Entry<String, StreamColumn>> action) {
+        this.data.entrySet().forEach(action);
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, StreamColumn>> spliterator() {
+        return this.data.entrySet().spliterator();
+    }
+
+    protected abstract void scan(Consumer<StreamRow> action);
+
+    private Table createBatch(List<StreamColumn> columns, List<Column<?>> batchColumns) {
+        Table batch = new GenericTable(this.name);
+        batchColumns.clear();
+        for (StreamColumn column : columns) {
+            Column<?> batchColumn = createColumn(column);
+            batch.add(batchColumn);
+            batchColumns.add(batchColumn);
+        }
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addRow(StreamRow row, List<StreamColumn> columns, List<Column<?>> batchColumns) {
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).getType().name()) {
+                case IntegerType.TYPE_NAME -> ((IntColumn) batchColumns.get(i)).addInt(row.getInt(columns.get(i)));
+                case DoubleType.TYPE_NAME -> ((DoubleColumn) batchColumns.get(i)).addDouble(row.getDouble(columns.get(i)));
+                default -> ((Column<String>) batchColumns.get(i)).add(row.get(columns.get(i)));
+            }
+        }
+    }
+
+    private Column<?> createColumn(StreamColumn column) {
+        return switch (column.getType().name()) {
+            case IntegerType.TYPE_NAME -> new IntColumn(column.getName());
+            case DoubleType.TYPE_NAME -> new DoubleColumn(column.getName());
+            default -> ColumnFactory.getStringColumn(column.getName(), column.getType(), HeapStorage.newInstance());
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.StringType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class ConcatenatedStreamTable extends AbstractStreamTable {
+    private final List<StreamTable> sourceTables;
+    private final List<StreamColumn[]> sourceColumns;
+
+    public ConcatenatedStreamTable(String name, List<StreamTable> sourceTables) {
+        super(name);
+        this.sourceTables = List.copyOf(sourceTables);
+        this.sourceColumns = new ArrayList<>();
+        List<String> columnNames = new ArrayList<>();
+        for (StreamTable sourceTable : sourceTables) {
+            for (Map.Entry<String, StreamColumn> columnEntry : sourceTable) {
+                if (!contains(columnEntry.getKey())) {
+                    add(new StreamColumn(columnEntry.getKey(), ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), columnNames.size()));
+                    columnNames.add(columnEntry.getKey());
+                }
+            }
+        }
+        for (StreamTable sourceTable : sourceTables) {
+            this.sourceColumns.add(columnNames.stream().map(sourceTable::get).toArray(StreamColumn[]::new));
+        }
+    }
+
+    @Override
+    protected void scan(Consumer<StreamRow> action) {
+        ConcatenatedRow row = new ConcatenatedRow();
+        for (int i = 0; i < this.sourceTables.size(); i++) {
+            row.sourceColumns = this.sourceColumns.get(i);
+            this.sourceTables.get(i).forEachRow(sourceRow -> {
+                row.sourceRow = sourceRow;
+                action.accept(row);
+                row.ordinal += 1;
+            });
+        }
+    }
+
+    private static class ConcatenatedRow extends StreamRow {
+        private int ordinal;
+        private StreamRow sourceRow;
+        private StreamColumn[] sourceColumns;
+
+        @Override
+        public int ordinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public String get(StreamColumn column) {
+            StreamColumn sourceColumn = this.sourceColumns[column.index()];
+            return Objects.isNull(sourceColumn) ? null : this.sourceRow.get(sourceColumn);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.StringType;
+
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+public class ExplodedStreamTable extends AbstractStreamTable {
+    private static final int ID_INDEX = 0;
+    private static final int REFERENCING_INDEX = 1;
+    private static final int REFERENCED_INDEX = 2;
+    private final StreamTable sourceTable;
+    private final StreamColumn sourceIdColumn;
+    private final StreamColumn sourceColumn;
+    private final Pattern separator;
+
+    public ExplodedStreamTable(String name, StreamTable sourceTable, StreamColumn sourceIdColumn, StreamColumn sourceColumn, String separator, String idColumnName, String referencingColumnName, String referencedColumnName) {
+        super(name);
+        this.sourceTable = sourceTable;
+        this.sourceIdColumn = sourceIdColumn;
+        this.sourceColumn = sourceColumn;
+        this.separator = Pattern.compile(Pattern.quote(separator));
+        add(new StreamColumn(idColumnName, ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME), ID_INDEX));
+        add(new StreamColumn(referencingColumnName, sourceIdColumn.getType(), REFERENCING_INDEX));
+        add(new StreamColumn(referencedColumnName, ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), REFERENCED_INDEX));
+    }
+
+    @Override
+    protected void scan(Consumer<StreamRow> action) {
+        ExplodedRow row = new ExplodedRow();
+        this.sourceTable.forEachRow(sourceRow -> {
+            row.referencingValue = sourceRow.get(this.sourceIdColumn);
+            for (String value : this.separator.split(sourceRow.get(this.sourceColumn))) {
+                row.referencedValue = value;
+                action.accept(row);
+                row.ordinal += 1;
+            }
+        });
+    }
+
+    private static class ExplodedRow extends StreamRow {
+        private int ordinal;
+        private String referencingValue;
+        private String referencedValue;
+
+        @Override
+        public int ordinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public String get(StreamColumn column) {
+            return switch (column.index()) {
+                case ID_INDEX -> Integer.toString(this.ordinal);
+                case REFERENCING_INDEX -> this.referencingValue;
+                case REFERENCED_INDEX -> this.referencedValue;
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.database.GenericDatabase;
+import io.github.dtolmachev1.data.table.Constraint;
+import io.github.dtolmachev1.data.table.ConstraintBuilderFactory;
+import io.github.dtolmachev1.data.table.ReferenceConstraint;
+import io.github.dtolmachev1.data.table.Table;
+import io.github.dtolmachev1.data.table.UniqueConstraint;
+import jakarta.annotation.Nonnull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class GenericStreamDatabase implements StreamDatabase {
+    private String name;
+    private final Map<String, StreamTable> data;
+
+    public GenericStreamDatabase(String name) {
+        this.name = name;
+        this.data = new HashMap<>();
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Database schema() {
+        Database database = new GenericDatabase(this.name);
+        this.data.values().forEach(table -> database.add(table.schema()));
+        for (StreamTable table : this.data.values()) {
+            Table schemaTable = database.get(table.getName());
+            table.constraints().forEach(constraint -> schemaTable.addConstraint(createConstraint(database, schemaTable, constraint)));
+        }
+        return database;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.data.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.data.size();
+    }
+
+    @Override
+    public void clear() {
+        this.data.clear();
+    }
+
+    @Override
+    public boolean contains(String tableName) {
+        return this.data.containsKey(tableName);
+    }
+
+    @Override
+    public StreamTable get(String tableName) {
+        return this.data.get(tableName);
+    }
+
+    @Override
+    public boolean add(StreamTable table) {
+        return Objects.isNull(this.data.putIfAbsent(table.getName(), table));
+    }
+
+    @Override
+    public boolean set(StreamTable table) {
+        return Objects.nonNull(this.data.replace(table.getName(), table));
+    }
+
+    @Override
+    public StreamTable remove(String tableName) {
+        return this.data.remove(tableName);
+    }
+
+    @Override
+    public Stream<Map.Entry<String, StreamTable>> stream() {
+        return this.data.entrySet().stream();
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<Map.Entry<String, StreamTable>> iterator() {
+        return this.data.entrySet().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Map.Entry<String, StreamTable>> action) {
+        this.data.entrySet().forEach(action);
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, StreamTable>> spliterator() {
+        return this.data.entrySet().spliterator();
+    }
+
+    private Constraint createConstraint(Database database, Table table, StreamConstraint constraint) {
+        if (constraint.name().equals(UniqueConstraint.CONSTRAINT_NAME)) {
+            return ((UniqueConstraint.UniqueConstraintBuilder) ConstraintBuilderFactory.getConstraintBuilder(UniqueConstraint.CONSTRAINT_NAME))
+                    .column(table.get(constraint.column().getName()))
+                    .build();
+        }
+        Table referencedTable = database.get(constraint.referencedTable().getName());
+        if (Objects.isNull(referencedTable)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        return ((ReferenceConstraint.ReferenceConstraintBuilder) ConstraintBuilderFactory.getConstraintBuilder(ReferenceConstraint.CONSTRAINT_NAME))
+                .referencingColumn(table.get(constraint.column().getName()))
+                .referencedTable(referencedTable)
+                .referencedColumn(referencedTable.get(constraint.referencedColumn().getName()))
+                .build();
+    }
+}
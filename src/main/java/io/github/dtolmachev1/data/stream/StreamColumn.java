@@ -0,0 +1,35 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.column.ColumnType;
+
+public class StreamColumn {
+    private final int index;
+    private String name;
+    private ColumnType type;
+
+    public StreamColumn(String name, ColumnType type, int index) {
+        this.index = index;
+        this.name = name;
+        this.type = type;
+    }
+
+    public int index() {
+        return this.index;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ColumnType getType() {
+        return this.type;
+    }
+
+    public void setType(ColumnType type) {
+        this.type = type;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.table.ReferenceConstraint;
+import io.github.dtolmachev1.data.table.UniqueConstraint;
+
+import java.util.Objects;
+
+public class StreamConstraint {
+    private final StreamColumn column;
+    private final StreamTable referencedTable;
+    private final StreamColumn referencedColumn;
+
+    public StreamConstraint(StreamColumn column) {
+        this(column, null, null);
+    }
+
+    public StreamConstraint(StreamColumn column, StreamTable referencedTable, StreamColumn referencedColumn) {
+        this.column = column;
+        this.referencedTable = referencedTable;
+        this.referencedColumn = referencedColumn;
+    }
+
+    public String name() {
+        return Objects.isNull(this.referencedTable) ? UniqueConstraint.CONSTRAINT_NAME : ReferenceConstraint.CONSTRAINT_NAME;
+    }
+
+    public StreamColumn column() {
+        return this.column;
+    }
+
+    public StreamTable referencedTable() {
+        return this.referencedTable;
+    }
+
+    public StreamColumn referencedColumn() {
+        return this.referencedColumn;
+    }
+}
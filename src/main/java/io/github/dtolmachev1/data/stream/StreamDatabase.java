@@ -0,0 +1,32 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.database.Database;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface StreamDatabase extends Iterable<Map.Entry<String, StreamTable>> {
+    String getName();
+
+    void setName(String name);
+
+    Database schema();
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    boolean contains(String tableName);
+
+    StreamTable get(String tableName);
+
+    boolean add(StreamTable table);
+
+    boolean set(StreamTable table);
+
+    StreamTable remove(String tableName);
+
+    Stream<Map.Entry<String, StreamTable>> stream();
+}
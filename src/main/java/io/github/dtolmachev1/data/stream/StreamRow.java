@@ -0,0 +1,58 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.NumberParser;
+import io.github.dtolmachev1.data.column.StringType;
+
+import java.util.Objects;
+
+public abstract class StreamRow {
+    private final NumberParser numberParser;
+
+    protected StreamRow() {
+        this.numberParser = new NumberParser();
+    }
+
+    public abstract int ordinal();
+
+    public abstract String get(StreamColumn column);
+
+    public boolean isValid(StreamColumn column) {
+        if (column.getType().name().equals(StringType.TYPE_NAME)) {
+            return true;
+        }
+        String value = get(column);
+        if (Objects.isNull(value)) {
+            return false;
+        }
+        int result = this.numberParser.parse(value);
+        return switch (column.getType().name()) {
+            case IntegerType.TYPE_NAME -> NumberParser.isInteger(result);
+            case DoubleType.TYPE_NAME -> NumberParser.isDouble(result);
+            default -> false;
+        };
+    }
+
+    public int getInt(StreamColumn column) {
+        if (!isValid(column)) {
+            throw new RuntimeException("Unable to parse integer value in the column");
+        }
+        return (int) this.numberParser.longValue();
+    }
+
+    public double getDouble(StreamColumn column) {
+        if (!isValid(column)) {
+            throw new RuntimeException("Unable to parse double value in the column");
+        }
+        return this.numberParser.doubleValue();
+    }
+
+    public Object getValue(StreamColumn column) {
+        return switch (column.getType().name()) {
+            case IntegerType.TYPE_NAME -> getInt(column);
+            case DoubleType.TYPE_NAME -> getDouble(column);
+            default -> get(column);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.dtolmachev1.data.stream;
+
+import io.github.dtolmachev1.data.table.Table;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface StreamTable extends Iterable<Map.Entry<String, StreamColumn>> {
+    String getName();
+
+    void setName(String name);
+
+    void addConstraint(StreamConstraint constraint);
+
+    List<StreamConstraint> constraints();
+
+    Optional<StreamColumn> columnWithUniqueConstraint();
+
+    int version();
+
+    boolean removeRow(int ordinal);
+
+    int rowCount();
+
+    void forEachRow(Consumer<StreamRow> action);
+
+    void forEachBatch(int batchSize, Consumer<Table> action);
+
+    Table schema();
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    boolean contains(String columnName);
+
+    StreamColumn get(String columnName);
+
+    boolean add(StreamColumn column);
+
+    StreamColumn remove(String columnName);
+
+    Stream<Map.Entry<String, StreamColumn>> stream();
+}
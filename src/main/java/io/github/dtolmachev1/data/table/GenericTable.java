@@ -1,6 +1,8 @@
 package io.github.dtolmachev1.data.table;
 
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.RowSet;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import jakarta.annotation.Nonnull;
 
 import java.nio.file.Path;
@@ -20,12 +22,18 @@ public class GenericTable implements Table {
     private final List<Constraint> constraints;
     private final List<Path> sources;
     private final Map<String, Column<?>> data;
+    private RowSet rows;
+    private boolean sampled;
+    private StreamTable fullTable;
 
     public GenericTable(String name) {
         this.name = name;
         this.data = new LinkedHashMap<>();
         this.constraints = new ArrayList<>();
         this.sources = new ArrayList<>();
+        this.rows = new RowSet();
+        this.sampled = false;
+        this.fullTable = null;
     }
 
     @Override
@@ -66,6 +74,36 @@ public class GenericTable implements Table {
         return List.copyOf(this.sources);
     }
 
+    @Override
+    public boolean isSampled() {
+        return this.sampled;
+    }
+
+    @Override
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    @Override
+    public Optional<StreamTable> fullTable() {
+        return Optional.ofNullable(this.fullTable);
+    }
+
+    @Override
+    public void setFullTable(StreamTable fullTable) {
+        this.fullTable = fullTable;
+    }
+
+    @Override
+    public RowSet rows() {
+        return this.rows;
+    }
+
+    @Override
+    public boolean removeRow(Integer id) {
+        return this.rows.remove(id);
+    }
+
     @Override
     public boolean isEmpty() {
         return this.data.isEmpty();
@@ -78,7 +116,9 @@ public class GenericTable implements Table {
 
     @Override
     public void clear() {
+        this.data.values().forEach(this::detach);
         this.data.clear();
+        this.rows = new RowSet();
     }
 
     @Override
@@ -93,17 +133,33 @@ public class GenericTable implements Table {
 
     @Override
     public boolean add(Column<?> column) {
-        return Objects.isNull(this.data.putIfAbsent(column.getName(), column));
+        if (Objects.nonNull(this.data.putIfAbsent(column.getName(), column))) {
+            return false;
+        }
+        attach(column);
+        return true;
     }
 
     @Override
     public boolean set(Column<?> column) {
-        return Objects.nonNull(this.data.replace(column.getName(), column));
+        Column<?> previousColumn = this.data.replace(column.getName(), column);
+        if (Objects.isNull(previousColumn)) {
+            return false;
+        }
+        if (previousColumn != column) {
+            detach(previousColumn);
+            column.setRows(this.rows);
+        }
+        return true;
     }
 
     @Override
     public Column<?> remove(String columnName) {
-        return this.data.remove(columnName);
+        Column<?> column = this.data.remove(columnName);
+        if (Objects.nonNull(column)) {
+            detach(column);
+        }
+        return column;
     }
 
     @Override
@@ -131,4 +187,18 @@ public class GenericTable implements Table {
     public Spliterator<Map.Entry<String, Column<?>>> spliterator() {
         return this.data.entrySet().spliterator();
     }
+
+    private void attach(Column<?> column) {
+        if (this.data.size() == 1) {
+            this.rows = column.rows();
+        } else {
+            column.setRows(this.rows);
+        }
+    }
+
+    private void detach(Column<?> column) {
+        if (column.rows() == this.rows) {
+            column.setRows(new RowSet(this.rows));
+        }
+    }
 }
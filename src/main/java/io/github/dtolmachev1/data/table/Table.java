@@ -1,6 +1,8 @@
 package io.github.dtolmachev1.data.table;
 
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.RowSet;
+import io.github.dtolmachev1.data.stream.StreamTable;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -23,6 +25,18 @@ public interface Table extends Iterable<Map.Entry<String, Column<?>>> {
 
     List<Path> sources();
 
+    boolean isSampled();
+
+    void setSampled(boolean sampled);
+
+    Optional<StreamTable> fullTable();
+
+    void setFullTable(StreamTable fullTable);
+
+    RowSet rows();
+
+    boolean removeRow(Integer id);
+
     boolean isEmpty();
 
     int size();
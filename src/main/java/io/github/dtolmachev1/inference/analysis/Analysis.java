@@ -1,6 +1,7 @@
 package io.github.dtolmachev1.inference.analysis;
 
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -11,6 +12,8 @@ public interface Analysis {
 
     void transform(Database database);
 
+    void transform(StreamDatabase database);
+
     interface AnalysisBuilder {
         Analysis build();
     }
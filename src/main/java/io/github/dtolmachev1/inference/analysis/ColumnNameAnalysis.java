@@ -2,6 +2,9 @@ package io.github.dtolmachev1.inference.analysis;
 
 import io.github.dtolmachev1.data.column.Column;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Table;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -57,6 +60,11 @@ public class ColumnNameAnalysis implements Analysis {
         this.columnNames.forEach((tableName, tableEntry) -> transformTable(tableEntry, database.get(tableName)));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        this.columnNames.forEach((tableName, tableEntry) -> transformTable(tableEntry, database.get(tableName)));
+    }
+
     public static ColumnNameAnalysisBuilder builder() {
         return new ColumnNameAnalysisBuilder();
     }
@@ -95,6 +103,7 @@ public class ColumnNameAnalysis implements Analysis {
         tableEntry.forEach((sourceColumnName, newColumnName) -> transformColumn(table.get(sourceColumnName), newColumnName));
         table.clear();
         columns.forEach(table::add);
+        table.fullTable().ifPresent(fullTable -> transformTable(tableEntry, fullTable));
     }
 
     private void transformColumn(Column<?> column, String newColumnName) {
@@ -104,6 +113,23 @@ public class ColumnNameAnalysis implements Analysis {
         column.setName(newColumnName);
     }
 
+    private void transformTable(Map<String, String> tableEntry, StreamTable table) {
+        if (Objects.isNull(table)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        List<StreamColumn> columns = table.stream().map(Map.Entry::getValue).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        tableEntry.forEach((sourceColumnName, newColumnName) -> transformColumn(table.get(sourceColumnName), newColumnName));
+        table.clear();
+        columns.forEach(table::add);
+    }
+
+    private void transformColumn(StreamColumn column, String newColumnName) {
+        if (Objects.isNull(column)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        column.setName(newColumnName);
+    }
+
     public static class ColumnNameAnalysisBuilder implements AnalysisBuilder {
         private final ColumnNameAnalysis columnNameAnalysis;
 
@@ -5,20 +5,26 @@ import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
 import io.github.dtolmachev1.data.column.ColumnType;
 import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.DoubleColumn;
 import io.github.dtolmachev1.data.column.DoubleType;
-import io.github.dtolmachev1.data.column.GenericColumn;
+import io.github.dtolmachev1.data.column.IntColumn;
 import io.github.dtolmachev1.data.column.IntegerType;
 import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamRow;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.validator.ColumnTypeValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidator;
 import io.github.dtolmachev1.inference.validator.ColumnValidatorBuilderFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -30,11 +36,14 @@ public class ColumnTypeAnalysis implements Analysis {
     private static final String COLUMN_TAG = "column";
     private static final String TYPE_TAG = "type";
     private static final String LENGTH_TAG = "length";
+    private static final String CONFIDENCE_TAG = "confidence";
     private final Map<String, Map<String, ColumnType>> columnTypes;
+    private final Map<String, Map<String, Double>> confidences;
     private final Configuration configuration;
 
     private ColumnTypeAnalysis() {
         this.columnTypes = new HashMap<>();
+        this.confidences = new HashMap<>();
         this.configuration = XmlConfiguration.newInstance();
     }
 
@@ -69,6 +78,11 @@ public class ColumnTypeAnalysis implements Analysis {
         this.columnTypes.forEach((tableName, tableEntry) -> transformTable(tableEntry, database.get(tableName)));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        this.columnTypes.forEach((tableName, tableEntry) -> transformTable(tableEntry, database.get(tableName)));
+    }
+
     public static ColumnTypeAnalysisBuilder builder() {
         return new ColumnTypeAnalysisBuilder();
     }
@@ -105,6 +119,12 @@ public class ColumnTypeAnalysis implements Analysis {
             lengthNode.setTextContent(Integer.toString(((StringType) columnType).getMaxLength()));
             columnTypeNode.appendChild(lengthNode);
         }
+        Double confidence = this.confidences.getOrDefault(tableName, Map.of()).get(columnName);
+        if (Objects.nonNull(confidence)) {
+            Element confidenceNode = document.createElement(CONFIDENCE_TAG);
+            confidenceNode.setTextContent(Double.toString(confidence));
+            columnTypeNode.appendChild(confidenceNode);
+        }
         return columnTypeNode;
     }
 
@@ -120,37 +140,73 @@ public class ColumnTypeAnalysis implements Analysis {
         if (Objects.isNull(column)) {
             throw new RuntimeException("Unable to find column in the table");
         }
-        ColumnValidator columnValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ANALYSIS_NAME))
+        ColumnTypeValidator columnValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ANALYSIS_NAME))
                 .column(column)
                 .columnType(columnType)
                 .build();
         this.configuration.typePolicy().apply(table, columnValidator);
-        return createColumn(column, columnType);
+        return createColumn(column, columnType, columnValidator);
     }
 
     @SuppressWarnings("DuplicatedCode")
-    private Column<?> createColumn(Column<String> sourceColumn, ColumnType columnType) {
+    private Column<?> createColumn(Column<String> sourceColumn, ColumnType columnType, ColumnTypeValidator columnTypeValidator) {
         if (columnType.name().equals(IntegerType.TYPE_NAME)) {
-            Column<Integer> newColumn = new GenericColumn<>(sourceColumn.getName(), columnType);
-            sourceColumn.forEach(entry -> newColumn.add(entry.getKey(), Integer.valueOf(entry.getValue())));
+            IntColumn newColumn = new IntColumn(sourceColumn.getName(), this.configuration.storage());
+            sourceColumn.forEach(entry -> newColumn.addInt(entry.getKey(), columnTypeValidator.intValue(entry.getKey())));
             return newColumn;
         }
         if (columnType.name().equals(DoubleType.TYPE_NAME)) {
-            Column<Double> newColumn = new GenericColumn<>(sourceColumn.getName(), columnType);
-            sourceColumn.forEach(entry -> newColumn.add(entry.getKey(), Double.valueOf(entry.getValue())));
+            DoubleColumn newColumn = new DoubleColumn(sourceColumn.getName(), this.configuration.storage());
+            sourceColumn.forEach(entry -> newColumn.addDouble(entry.getKey(), columnTypeValidator.doubleValue(entry.getKey())));
             return newColumn;
         }
         if (columnType.name().equals(StringType.TYPE_NAME)) {
             StringType stringType = (StringType) columnType;
-            stringType.setMaxLength(sourceColumn.stream()
-                    .map(entry -> entry.getValue().length())
-                    .max(Integer::compare)
-                    .orElse(1));
+            stringType.setMaxLength(sourceColumn.isEmpty() ? 1 : sourceColumn.statistics().maxLength());
         }
         sourceColumn.setType(columnType);
         return sourceColumn;
     }
 
+    private void transformTable(Map<String, ColumnType> tableEntry, StreamTable table) {
+        if (Objects.isNull(table)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        List<StreamColumn> columns = new ArrayList<>();
+        tableEntry.forEach((columnName, columnType) -> columns.add(transformColumn(table.get(columnName), columnType)));
+        int[] invalidCounts = new int[columns.size()];
+        int[] rowCounts = new int[columns.size()];
+        int[] maxLengths = new int[columns.size()];
+        table.forEachRow(row -> validateRow(table, row, columns, invalidCounts, rowCounts, maxLengths));
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getType().name().equals(StringType.TYPE_NAME)) {
+                ((StringType) columns.get(i).getType()).setMaxLength(rowCounts[i] == 0 ? 1 : maxLengths[i]);
+            }
+        }
+    }
+
+    private StreamColumn transformColumn(StreamColumn column, ColumnType columnType) {
+        if (Objects.isNull(column)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        column.setType(columnType);
+        return column;
+    }
+
+    private void validateRow(StreamTable table, StreamRow row, List<StreamColumn> columns, int[] invalidCounts, int[] rowCounts, int[] maxLengths) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (!row.isValid(columns.get(i)) && !this.configuration.typePolicy().keepInvalid(invalidCounts[i]++)) {
+                table.removeRow(row.ordinal());
+                return;
+            }
+            rowCounts[i] += 1;
+            String value = row.get(columns.get(i));
+            if (Objects.nonNull(value)) {
+                maxLengths[i] = Math.max(maxLengths[i], value.length());
+            }
+        }
+    }
+
     public static class ColumnTypeAnalysisBuilder implements Analysis.AnalysisBuilder {
         private final ColumnTypeAnalysis columnTypeAnalysis;
 
@@ -163,6 +219,11 @@ public class ColumnTypeAnalysis implements Analysis {
             return this;
         }
 
+        public ColumnTypeAnalysisBuilder confidence(String tableName, String columnName, double confidence) {
+            this.columnTypeAnalysis.confidences.computeIfAbsent(tableName, k -> new HashMap<>()).put(columnName, confidence);
+            return this;
+        }
+
         @Override
         public ColumnTypeAnalysis build() {
             return this.columnTypeAnalysis;
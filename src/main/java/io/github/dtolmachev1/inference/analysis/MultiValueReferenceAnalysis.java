@@ -3,13 +3,20 @@ package io.github.dtolmachev1.inference.analysis;
 import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.ColumnFactory;
 import io.github.dtolmachev1.data.column.ColumnType;
 import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.DoubleColumn;
 import io.github.dtolmachev1.data.column.DoubleType;
-import io.github.dtolmachev1.data.column.GenericColumn;
+import io.github.dtolmachev1.data.column.IntColumn;
 import io.github.dtolmachev1.data.column.IntegerType;
 import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.ExplodedStreamTable;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamConstraint;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Constraint;
 import io.github.dtolmachev1.data.table.ConstraintBuilderFactory;
 import io.github.dtolmachev1.data.table.GenericTable;
@@ -25,11 +32,13 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 public class MultiValueReferenceAnalysis implements Analysis {
@@ -84,6 +93,11 @@ public class MultiValueReferenceAnalysis implements Analysis {
         this.multiValueReferences.forEach((referencingTableName, referencingTableEntry) -> transformTable(referencingTableEntry, database, database.get(referencingTableName)));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        this.multiValueReferences.forEach((referencingTableName, referencingTableEntry) -> transformTable(referencingTableEntry, database, database.get(referencingTableName)));
+    }
+
     public static MultiValueReferenceAnalysisBuilder builder() {
         return new MultiValueReferenceAnalysisBuilder();
     }
@@ -168,9 +182,10 @@ public class MultiValueReferenceAnalysis implements Analysis {
 
     private Table createTable(Table referencingTable, Column<?> columnWithUniqueConstraint, Column<String> referencingColumn, String multiValueReferenceSeparator, Table referencedTable, Column<?> referencedColumn, String newTableName, String newIdColumnName, String newReferencingColumnName, String newReferencedColumnName) {
         Table newTable = new GenericTable(newTableName);
+        newTable.setSampled(referencingTable.isSampled());
         Map<Integer, String[]> splitValues = new LinkedHashMap<>();
         referencingColumn.forEach(entry -> splitValues.put(entry.getKey(), entry.getValue().split(Pattern.quote(multiValueReferenceSeparator))));
-        Column<Integer> newIdColumn = createIdColumn(splitValues, newIdColumnName);
+        IntColumn newIdColumn = createIdColumn(splitValues, newIdColumnName);
         newTable.add(newIdColumn);
         Column<?> newReferencingColumn = createReferencingColumn(columnWithUniqueConstraint, splitValues, newReferencingColumnName);
         newTable.add(newReferencingColumn);
@@ -183,11 +198,12 @@ public class MultiValueReferenceAnalysis implements Analysis {
         return newTable;
     }
 
-    private Column<Integer> createIdColumn(Map<Integer, String[]> splitValues, String newIdColumnName) {
-        Column<Integer> newIdColumn = new GenericColumn<>(newIdColumnName);
+    private IntColumn createIdColumn(Map<Integer, String[]> splitValues, String newIdColumnName) {
+        IntColumn newIdColumn = new IntColumn(newIdColumnName, this.configuration.storage());
+        int id = 0;
         for (Map.Entry<Integer, String[]> splitEntry : splitValues.entrySet()) {
             for (String ignored : splitEntry.getValue()) {
-                newIdColumn.add(newIdColumn.size());
+                newIdColumn.addInt(id++);
             }
         }
         return newIdColumn;
@@ -196,23 +212,21 @@ public class MultiValueReferenceAnalysis implements Analysis {
     @SuppressWarnings("unchecked")
     private Column<?> createReferencingColumn(Column<?> sourceColumn, Map<Integer, String[]> splitValues, String newReferencingColumnName) {
         if (sourceColumn.getType().name().equals(IntegerType.TYPE_NAME)) {
-            Column<Integer> integerColumn = (Column<Integer>) sourceColumn;
-            Column<Integer> newReferencingColumn = new GenericColumn<>(newReferencingColumnName, ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME));
+            IntColumn newReferencingColumn = new IntColumn(newReferencingColumnName, this.configuration.storage());
             for (Map.Entry<Integer, String[]> splitEntry : splitValues.entrySet()) {
-                int value = integerColumn.get(splitEntry.getKey());
+                int value = intValue(sourceColumn, splitEntry.getKey());
                 for (String ignored : splitEntry.getValue()) {
-                    newReferencingColumn.add(value);
+                    newReferencingColumn.addInt(value);
                 }
             }
             return newReferencingColumn;
         }
         if (sourceColumn.getType().name().equals(DoubleType.TYPE_NAME)) {
-            Column<Double> doubleColumn = (Column<Double>) sourceColumn;
-            Column<Double> newReferencingColumn = new GenericColumn<>(newReferencingColumnName, ColumnTypeFactory.getColumnType(DoubleType.TYPE_NAME));
+            DoubleColumn newReferencingColumn = new DoubleColumn(newReferencingColumnName, this.configuration.storage());
             for (Map.Entry<Integer, String[]> splitEntry : splitValues.entrySet()) {
-                double value = doubleColumn.get(splitEntry.getKey());
+                double value = doubleValue(sourceColumn, splitEntry.getKey());
                 for (String ignored : splitEntry.getValue()) {
-                    newReferencingColumn.add(value);
+                    newReferencingColumn.addDouble(value);
                 }
             }
             return newReferencingColumn;
@@ -220,7 +234,7 @@ public class MultiValueReferenceAnalysis implements Analysis {
         Column<String> stringColumn = (Column<String>) sourceColumn;
         StringType stringType = (StringType) ColumnTypeFactory.getColumnType(StringType.TYPE_NAME);
         stringType.setMaxLength(((StringType) stringColumn.getType()).getMaxLength());
-        Column<String> newReferencingColumn = new GenericColumn<>(newReferencingColumnName, stringType);
+        Column<String> newReferencingColumn = ColumnFactory.getStringColumn(newReferencingColumnName, stringType, this.configuration.storage());
             for (Map.Entry<Integer, String[]> splitEntry : splitValues.entrySet()) {
             String value = stringColumn.get(splitEntry.getKey());
             for (String ignored : splitEntry.getValue()) {
@@ -231,7 +245,7 @@ public class MultiValueReferenceAnalysis implements Analysis {
     }
 
     private Column<String> createReferencedColumn(Map<Integer, String[]> splitValues, String newReferencedColumnName) {
-        Column<String> newReferencedColumn= new GenericColumn<>(newReferencedColumnName, ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME));
+        Column<String> newReferencedColumn = ColumnFactory.getStringColumn(newReferencedColumnName, ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), this.configuration.storage());
         for (Map.Entry<Integer, String[]> splitEntry : splitValues.entrySet()) {
             for (String splitValue : splitEntry.getValue()) {
                 newReferencedColumn.add(splitValue);
@@ -240,13 +254,29 @@ public class MultiValueReferenceAnalysis implements Analysis {
         return newReferencedColumn;
     }
 
+    private static int intValue(Column<?> column, int id) {
+        if (column instanceof IntColumn intColumn) {
+            return intColumn.getInt(id);
+        }
+        Object value = column.get(id);
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(String.valueOf(value));
+    }
+
+    private static double doubleValue(Column<?> column, int id) {
+        if (column instanceof DoubleColumn doubleColumn) {
+            return doubleColumn.getDouble(id);
+        }
+        Object value = column.get(id);
+        return value instanceof Number number ? number.doubleValue() : Double.parseDouble(String.valueOf(value));
+    }
+
     private void validateTable(Column<?> sourceColumn, Table newTable, Column<String> newReferencedColumn) {
-        ColumnValidator columnTypeValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
+        ColumnTypeValidator columnTypeValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
                 .column(newReferencedColumn)
                 .columnType(sourceColumn.getType())
                 .build();
         this.configuration.typePolicy().apply(newTable, columnTypeValidator);
-        newTable.set(createColumn(newReferencedColumn, sourceColumn.getType()));
+        newTable.set(createColumn(newReferencedColumn, sourceColumn.getType(), columnTypeValidator));
         ColumnValidator multiValueReferenceValidator = ((MultiValueReferenceValidator.MultiValueReferenceValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ANALYSIS_NAME))
                 .referencingColumn(newTable.get(newReferencedColumn.getName()))
                 .referencedColumn(sourceColumn)
@@ -254,23 +284,20 @@ public class MultiValueReferenceAnalysis implements Analysis {
         this.configuration.multiValueReferencePolicy().apply(newTable, multiValueReferenceValidator);
     }
 
-    private Column<?> createColumn(Column<String> sourceColumn, ColumnType columnType) {
+    private Column<?> createColumn(Column<String> sourceColumn, ColumnType columnType, ColumnTypeValidator columnTypeValidator) {
         if (columnType.name().equals(IntegerType.TYPE_NAME)) {
-            Column<Integer> newColumn = new GenericColumn<>(sourceColumn.getName(), ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME));
-            sourceColumn.forEach(entry -> newColumn.add(entry.getKey(), Integer.valueOf(entry.getValue())));
+            IntColumn newColumn = new IntColumn(sourceColumn.getName(), this.configuration.storage());
+            sourceColumn.forEach(entry -> newColumn.addInt(entry.getKey(), columnTypeValidator.intValue(entry.getKey())));
             return newColumn;
         }
         if (columnType.name().equals(DoubleType.TYPE_NAME)) {
-            Column<Double> newColumn = new GenericColumn<>(sourceColumn.getName(), ColumnTypeFactory.getColumnType(DoubleType.TYPE_NAME));
-            sourceColumn.forEach(entry -> newColumn.add(entry.getKey(), Double.valueOf(entry.getValue())));
+            DoubleColumn newColumn = new DoubleColumn(sourceColumn.getName(), this.configuration.storage());
+            sourceColumn.forEach(entry -> newColumn.addDouble(entry.getKey(), columnTypeValidator.doubleValue(entry.getKey())));
             return newColumn;
         }
         if (columnType.name().equals(StringType.TYPE_NAME)) {
             StringType stringType = (StringType) sourceColumn.getType();
-            stringType.setMaxLength(sourceColumn.stream()
-                    .map(entry -> entry.getValue().length())
-                    .max(Integer::compare)
-                    .orElse(1));
+            stringType.setMaxLength(sourceColumn.isEmpty() ? 1 : sourceColumn.statistics().maxLength());
         }
         return sourceColumn;
     }
@@ -289,6 +316,68 @@ public class MultiValueReferenceAnalysis implements Analysis {
                 .build();
     }
 
+    private void transformTable(Map<String, List<String>> referencingTableEntry, StreamDatabase database, StreamTable referencingTable) {
+        if (Objects.isNull(referencingTable)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        Optional<StreamColumn> columnWithUniqueConstraint = referencingTable.columnWithUniqueConstraint();
+        if (columnWithUniqueConstraint.isEmpty()) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        referencingTableEntry.forEach((referencingColumnName, referencingColumnEntry) -> transformColumn(database, referencingTable, columnWithUniqueConstraint.get(), referencingTable.get(referencingColumnName), referencingColumnEntry.get(0), database.get(referencingColumnEntry.get(1)), referencingColumnEntry.get(2), referencingColumnEntry.get(3), referencingColumnEntry.get(4), referencingColumnEntry.get(5), referencingColumnEntry.get(6)));
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    private void transformColumn(StreamDatabase database, StreamTable referencingTable, StreamColumn columnWithUniqueConstraint, StreamColumn referencingColumn, String multiValueReferenceSeparator, StreamTable referencedTable, String referencedColumnName, String newTableName, String newIdColumnName, String newReferencingColumnName, String newReferencedColumnName) {
+        if (Objects.isNull(referencingColumn)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        if (Objects.isNull(referencedTable)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        StreamColumn referencedColumn = referencedTable.get(referencedColumnName);
+        if (Objects.isNull(referencedColumn)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        StreamTable newTable = createTable(referencingTable, columnWithUniqueConstraint, referencingColumn, multiValueReferenceSeparator, referencedTable, referencedColumn, newTableName, newIdColumnName, newReferencingColumnName, newReferencedColumnName);
+        referencingTable.remove(referencingColumn.getName());
+        database.add(newTable);
+    }
+
+    private StreamTable createTable(StreamTable referencingTable, StreamColumn columnWithUniqueConstraint, StreamColumn referencingColumn, String multiValueReferenceSeparator, StreamTable referencedTable, StreamColumn referencedColumn, String newTableName, String newIdColumnName, String newReferencingColumnName, String newReferencedColumnName) {
+        StreamTable newTable = new ExplodedStreamTable(newTableName, referencingTable, columnWithUniqueConstraint, referencingColumn, multiValueReferenceSeparator, newIdColumnName, newReferencingColumnName, newReferencedColumnName);
+        validateTable(referencedTable, referencedColumn, newTable, newTable.get(newReferencedColumnName));
+        newTable.addConstraint(new StreamConstraint(newTable.get(newIdColumnName)));
+        newTable.addConstraint(new StreamConstraint(newTable.get(newReferencingColumnName), referencingTable, columnWithUniqueConstraint));
+        newTable.addConstraint(new StreamConstraint(newTable.get(newReferencedColumnName), referencedTable, referencedColumn));
+        return newTable;
+    }
+
+    private void validateTable(StreamTable referencedTable, StreamColumn referencedColumn, StreamTable newTable, StreamColumn newReferencedColumn) {
+        Set<Object> referencedValues = new HashSet<>();
+        referencedTable.forEachRow(row -> referencedValues.add(row.getValue(referencedColumn)));
+        if (!referencedColumn.getType().name().equals(StringType.TYPE_NAME)) {
+            newReferencedColumn.setType(referencedColumn.getType());
+        }
+        int[] invalidCounts = new int[2];
+        int[] rowCount = {0};
+        int[] maxLength = {0};
+        newTable.forEachRow(row -> {
+            if (!row.isValid(newReferencedColumn) && !this.configuration.typePolicy().keepInvalid(invalidCounts[0]++)) {
+                newTable.removeRow(row.ordinal());
+                return;
+            }
+            rowCount[0] += 1;
+            maxLength[0] = Math.max(maxLength[0], row.get(newReferencedColumn).length());
+            if (!referencedValues.contains(row.getValue(newReferencedColumn)) && !this.configuration.multiValueReferencePolicy().keepInvalid(invalidCounts[1]++)) {
+                newTable.removeRow(row.ordinal());
+            }
+        });
+        if (newReferencedColumn.getType().name().equals(StringType.TYPE_NAME)) {
+            ((StringType) newReferencedColumn.getType()).setMaxLength(rowCount[0] == 0 ? 1 : maxLength[0]);
+        }
+    }
+
     public static class MultiValueReferenceAnalysisBuilder implements AnalysisBuilder {
         private final MultiValueReferenceAnalysis multiValueReferenceAnalysis;
 
@@ -4,6 +4,10 @@ import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamConstraint;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Constraint;
 import io.github.dtolmachev1.data.table.ConstraintBuilderFactory;
 import io.github.dtolmachev1.data.table.ReferenceConstraint;
@@ -17,8 +21,10 @@ import org.w3c.dom.NodeList;
 
 import java.util.AbstractMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public class ReferenceConstraintAnalysis implements Analysis {
     public static final String ANALYSIS_NAME = "reference-constraint";
@@ -28,11 +34,14 @@ public class ReferenceConstraintAnalysis implements Analysis {
     private static final String REFERENCING_COLUMN_TAG = "referencing-column";
     private static final String REFERENCED_TABLE_TAG = "referenced-table";
     private static final String REFERENCED_COLUMN_TAG = "referenced-column";
+    private static final String CONFIDENCE_TAG = "confidence";
     private final Map<String, Map<String, Map.Entry<String, String>>> referenceConstraints;
+    private final Map<String, Map<String, Double>> confidences;
     private final Configuration configuration;
 
     private ReferenceConstraintAnalysis() {
         this.referenceConstraints = new HashMap<>();
+        this.confidences = new HashMap<>();
         this.configuration = XmlConfiguration.newInstance();
     }
 
@@ -67,6 +76,12 @@ public class ReferenceConstraintAnalysis implements Analysis {
         this.referenceConstraints.forEach((referencingTableName, referencingTableEntry) -> transformTable(referencingTableEntry, database, database.get(referencingTableName)));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        Map<StreamColumn, Map.Entry<Integer, Set<Object>>> referencedValues = new HashMap<>();
+        this.referenceConstraints.forEach((referencingTableName, referencingTableEntry) -> transformTable(referencingTableEntry, database, database.get(referencingTableName), referencedValues));
+    }
+
     public static ReferenceConstraintAnalysisBuilder builder() {
         return new ReferenceConstraintAnalysisBuilder();
     }
@@ -98,6 +113,12 @@ public class ReferenceConstraintAnalysis implements Analysis {
         Element referencedColumnNode = document.createElement(REFERENCED_COLUMN_TAG);
         referencedColumnNode.setTextContent(referencedColumnName);
         referenceConstraintNode.appendChild(referencedColumnNode);
+        Double confidence = this.confidences.getOrDefault(referencingTableName, Map.of()).get(referencingColumnName);
+        if (Objects.nonNull(confidence)) {
+            Element confidenceNode = document.createElement(CONFIDENCE_TAG);
+            confidenceNode.setTextContent(Double.toString(confidence));
+            referenceConstraintNode.appendChild(confidenceNode);
+        }
         return referenceConstraintNode;
     }
 
@@ -136,6 +157,46 @@ public class ReferenceConstraintAnalysis implements Analysis {
                 .build();
     }
 
+    private void transformTable(Map<String, Map.Entry<String, String>> referencingTableEntry, StreamDatabase database, StreamTable referencingTable, Map<StreamColumn, Map.Entry<Integer, Set<Object>>> referencedValues) {
+        if (Objects.isNull(referencingTable)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        referencingTableEntry.forEach((referencingColumnName, referencingColumnEntry) -> transformColumn(referencingTable, referencingTable.get(referencingColumnName), database.get(referencingColumnEntry.getKey()), referencingColumnEntry.getValue(), referencedValues));
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    private void transformColumn(StreamTable referencingTable, StreamColumn referencingColumn, StreamTable referencedTable, String referencedColumnName, Map<StreamColumn, Map.Entry<Integer, Set<Object>>> referencedValues) {
+        if (Objects.isNull(referencingColumn)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        if (Objects.isNull(referencedTable)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        StreamColumn referencedColumn = referencedTable.get(referencedColumnName);
+        if (Objects.isNull(referencedColumn)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        Set<Object> values = collectValues(referencedTable, referencedColumn, referencedValues);
+        int[] invalidCount = {0};
+        referencingTable.forEachRow(row -> {
+            if (!values.contains(row.getValue(referencingColumn)) && !this.configuration.referencePolicy().keepInvalid(invalidCount[0]++)) {
+                referencingTable.removeRow(row.ordinal());
+            }
+        });
+        referencingTable.addConstraint(new StreamConstraint(referencingColumn, referencedTable, referencedColumn));
+    }
+
+    private Set<Object> collectValues(StreamTable table, StreamColumn column, Map<StreamColumn, Map.Entry<Integer, Set<Object>>> referencedValues) {
+        Map.Entry<Integer, Set<Object>> valuesEntry = referencedValues.get(column);
+        if (Objects.isNull(valuesEntry) || valuesEntry.getKey() != table.version()) {
+            Set<Object> values = new HashSet<>();
+            table.forEachRow(row -> values.add(row.getValue(column)));
+            valuesEntry = new AbstractMap.SimpleImmutableEntry<>(table.version(), values);
+            referencedValues.put(column, valuesEntry);
+        }
+        return valuesEntry.getValue();
+    }
+
     public static class ReferenceConstraintAnalysisBuilder implements AnalysisBuilder {
         private final ReferenceConstraintAnalysis referenceConstraintAnalysis;
 
@@ -148,6 +209,11 @@ public class ReferenceConstraintAnalysis implements Analysis {
             return this;
         }
 
+        public ReferenceConstraintAnalysisBuilder confidence(String referencingTableName, String referencingColumnName, double confidence) {
+            this.referenceConstraintAnalysis.confidences.computeIfAbsent(referencingTableName, k -> new HashMap<>()).put(referencingColumnName, confidence);
+            return this;
+        }
+
         @Override
         public ReferenceConstraintAnalysis build() {
             return this.referenceConstraintAnalysis;
@@ -3,8 +3,13 @@ package io.github.dtolmachev1.inference.analysis;
 import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
-import io.github.dtolmachev1.data.column.GenericColumn;
+import io.github.dtolmachev1.data.column.ColumnFactory;
+import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.ConcatenatedStreamTable;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.GenericTable;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.validator.SimilarTablesValidator;
@@ -69,6 +74,14 @@ public class SimilarTablesAnalysis implements Analysis {
         similarTables.forEach((newTableName, sourceTableNames) -> transformTable(database, sourceTableNames.stream().map(database::get).toList(), newTableName));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        if (!this.configuration.mergeSimilarTables()) {
+            return;
+        }
+        similarTables.forEach((newTableName, sourceTableNames) -> transformTable(database, sourceTableNames.stream().map(database::get).toList(), newTableName));
+    }
+
     public static SimilarTablesAnalysisBuilder builder() {
         return new SimilarTablesAnalysisBuilder();
     }
@@ -127,7 +140,7 @@ public class SimilarTablesAnalysis implements Analysis {
                 Column<String> stringColumn = (Column<String>) columnEntry.getValue();
                 Column<String> newColumn = (Column<String>) newTable.get(columnEntry.getKey());
                 if (Objects.isNull(newColumn)) {
-                    newColumn = new GenericColumn<>(columnEntry.getKey());
+                    newColumn = ColumnFactory.getStringColumn(columnEntry.getKey(), ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), this.configuration.storage());
                     newTable.add(newColumn);
                 }
                 for (Map.Entry<Integer, String> valueEntry : stringColumn) {
@@ -135,8 +148,25 @@ public class SimilarTablesAnalysis implements Analysis {
                 }
             }
             sourceTable.sources().forEach(newTable::addSource);
+            newTable.setSampled(newTable.isSampled() || sourceTable.isSampled());
             database.remove(sourceTable.getName());
         }
+        if (sourceTables.stream().allMatch(sourceTable -> sourceTable.fullTable().isPresent())) {
+            newTable.setFullTable(new ConcatenatedStreamTable(newTableName, sourceTables.stream().map(sourceTable -> sourceTable.fullTable().get()).toList()));
+        }
+        database.add(newTable);
+    }
+
+    private void transformTable(StreamDatabase database, List<StreamTable> sourceTables, String newTableName) {
+        if (sourceTables.stream().anyMatch(Objects::isNull)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        TableValidator tableValidator = ((SimilarTablesValidator.SimilarTablesValidatorBuilder) TableValidatorBuilderFactory.getTableValidatorBuilder(ANALYSIS_NAME))
+                .similarStreamTables(sourceTables)
+                .build();
+        sourceTables.forEach(table -> this.configuration.similarTablesPolicy().apply(table, tableValidator));
+        StreamTable newTable = new ConcatenatedStreamTable(newTableName, sourceTables);
+        sourceTables.forEach(sourceTable -> database.remove(sourceTable.getName()));
         database.add(newTable);
     }
 
@@ -1,6 +1,8 @@
 package io.github.dtolmachev1.inference.analysis;
 
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Table;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -53,6 +55,11 @@ public class TableNameAnalysis implements Analysis {
         this.tableNames.forEach((sourceTableName, newTableName) -> transformTable(database, database.get(sourceTableName), newTableName));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        this.tableNames.forEach((sourceTableName, newTableName) -> transformTable(database, database.get(sourceTableName), newTableName));
+    }
+
     public static TableNameAnalysisBuilder builder() {
         return new TableNameAnalysisBuilder();
     }
@@ -88,6 +95,15 @@ public class TableNameAnalysis implements Analysis {
         database.add(table);
     }
 
+    private void transformTable(StreamDatabase database, StreamTable table, String newTableName) {
+        if (Objects.isNull(table)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        database.remove(table.getName());
+        table.setName(newTableName);
+        database.add(table);
+    }
+
     public static class TableNameAnalysisBuilder implements AnalysisBuilder {
         private final TableNameAnalysis tableNameAnalysis;
 
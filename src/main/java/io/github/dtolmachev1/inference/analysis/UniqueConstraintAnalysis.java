@@ -4,6 +4,10 @@ import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamConstraint;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Constraint;
 import io.github.dtolmachev1.data.table.ConstraintBuilderFactory;
 import io.github.dtolmachev1.data.table.Table;
@@ -16,8 +20,10 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public class UniqueConstraintAnalysis implements Analysis {
     public static final String ANALYSIS_NAME = "unique-constraint";
@@ -64,6 +70,11 @@ public class UniqueConstraintAnalysis implements Analysis {
         this.uniqueConstraints.forEach((tableName, columnName) -> transformTable(database.get(tableName), columnName));
     }
 
+    @Override
+    public void transform(StreamDatabase database) {
+        this.uniqueConstraints.forEach((tableName, columnName) -> transformTable(database.get(tableName), columnName));
+    }
+
     public static UniqueConstraintAnalysisBuilder builder() {
         return new UniqueConstraintAnalysisBuilder();
     }
@@ -114,6 +125,39 @@ public class UniqueConstraintAnalysis implements Analysis {
                 .build();
     }
 
+    private void transformTable(StreamTable table, String columnName) {
+        if (Objects.isNull(table)) {
+            throw new RuntimeException("Unable to find table in the database");
+        }
+        transformColumn(table, table.get(columnName));
+    }
+
+    private void transformColumn(StreamTable table, StreamColumn column) {
+        if (Objects.isNull(column)) {
+            throw new RuntimeException("Unable to find column in the table");
+        }
+        Set<Object> duplicateValues = findDuplicateValues(table, column);
+        int[] invalidCount = {0};
+        table.forEachRow(row -> {
+            if (duplicateValues.contains(row.getValue(column)) && !this.configuration.uniquePolicy().keepInvalid(invalidCount[0]++)) {
+                table.removeRow(row.ordinal());
+            }
+        });
+        table.addConstraint(new StreamConstraint(column));
+    }
+
+    private Set<Object> findDuplicateValues(StreamTable table, StreamColumn column) {
+        Set<Object> values = new HashSet<>();
+        Set<Object> duplicateValues = new HashSet<>();
+        table.forEachRow(row -> {
+            Object value = row.getValue(column);
+            if (!values.add(value)) {
+                duplicateValues.add(value);
+            }
+        });
+        return duplicateValues;
+    }
+
     public static class UniqueConstraintAnalysisBuilder implements AnalysisBuilder {
         private final UniqueConstraintAnalysis uniqueConstraintAnalysis;
 
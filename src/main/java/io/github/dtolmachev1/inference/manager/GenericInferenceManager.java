@@ -1,8 +1,11 @@
 package io.github.dtolmachev1.inference.manager;
 
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisFactory;
+import io.github.dtolmachev1.inference.profile.ColumnProfiler;
+import io.github.dtolmachev1.inference.profile.ReferenceCandidatePruner;
 import io.github.dtolmachev1.inference.rule.InferenceRule;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -54,6 +57,17 @@ public class GenericInferenceManager implements InferenceManager {
         }
     }
 
+    @Override
+    public void loadAnalyzes(InputStream inputStream, StreamDatabase database) {
+        try {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream);
+            load(document.getDocumentElement().getElementsByTagName(ANALYSIS_TAG));
+            transform(database);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            throw new RuntimeException("Unable to load analyzes");
+        }
+    }
+
     @Override
     public void saveAnalyzes(OutputStream outputStream) {
         try {
@@ -70,6 +84,7 @@ public class GenericInferenceManager implements InferenceManager {
 
     @Override
     public void analyzeDatabase(Database database) {
+        ColumnProfiler.newInstance().profile(database);
         for (InferenceRule inferenceRule : this.pipeline) {
             Optional<Analysis> analysis = inferenceRule.apply(database);
             if (analysis.isPresent()) {
@@ -77,6 +92,8 @@ public class GenericInferenceManager implements InferenceManager {
                 this.analyzes.put(analysis.get().name(), analysis.get());
             }
         }
+        ColumnProfiler.newInstance().clear();
+        ReferenceCandidatePruner.newInstance().clear();
     }
 
     private void load(NodeList analyzesEntries) {
@@ -106,4 +123,12 @@ public class GenericInferenceManager implements InferenceManager {
                 .map(this.analyzes::get)
                 .forEach(analysis -> analysis.transform(database));
     }
+
+    private void transform(StreamDatabase database) {
+        this.pipeline.stream()
+                .map(InferenceRule::name)
+                .filter(this.analyzes::containsKey)
+                .map(this.analyzes::get)
+                .forEach(analysis -> analysis.transform(database));
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.dtolmachev1.inference.manager;
 
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
 
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -8,6 +9,8 @@ import java.io.OutputStream;
 public interface InferenceManager {
     void loadAnalyzes(InputStream inputStream, Database database);
 
+    void loadAnalyzes(InputStream inputStream, StreamDatabase database);
+
     void saveAnalyzes(OutputStream outputStream);
 
     void analyzeDatabase(Database database);
@@ -7,4 +7,6 @@ public interface ColumnPolicy {
     String name();
 
     void apply(Table table, ColumnValidator columnValidator);
+
+    boolean keepInvalid(int invalidCount);
 }
@@ -3,9 +3,6 @@ package io.github.dtolmachev1.inference.policy;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.validator.ColumnValidator;
 
-import java.util.List;
-import java.util.Map;
-
 public class IgnorePolicy implements ColumnPolicy {
     public static final String POLICY_NAME = "ignore";
 
@@ -23,17 +20,17 @@ public class IgnorePolicy implements ColumnPolicy {
 
     @Override
     public void apply(Table table, ColumnValidator columnValidator) {
-        List<Integer> invalidValues = table.stream()
-                .map(Map.Entry::getValue)
-                .findAny()
-                .map(entry -> entry.stream()
-                        .map(Map.Entry::getKey)
-                        .filter(id -> !columnValidator.isValid(id))
-                        .toList())
-                .orElse(List.of());
-        table.stream()
-                .map(Map.Entry::getValue)
-                .forEach(column -> invalidValues.forEach(column::remove));
+        int[] invalidRows = table.rows().stream()
+                .filter(id -> !columnValidator.isValid(id))
+                .toArray();
+        for (int id : invalidRows) {
+            table.removeRow(id);
+        }
+    }
+
+    @Override
+    public boolean keepInvalid(int invalidCount) {
+        return false;
     }
 
     private static class IgnorePolicyHolder {
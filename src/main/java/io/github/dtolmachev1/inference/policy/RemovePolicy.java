@@ -1,5 +1,6 @@
 package io.github.dtolmachev1.inference.policy;
 
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.validator.TableValidator;
 
@@ -30,6 +31,15 @@ public class RemovePolicy implements TablePolicy {
                 invalidColumns.forEach(table::remove);
     }
 
+    @Override
+    public void apply(StreamTable table, TableValidator tableValidator) {
+        List<String> invalidColumns = table.stream()
+                .map(Map.Entry::getKey)
+                .filter(columnName -> !tableValidator.isValid(columnName))
+                .toList();
+        invalidColumns.forEach(table::remove);
+    }
+
     private static class RemovePolicyHolder {
         private static final RemovePolicy REMOVE_POLICY = new RemovePolicy();
     }
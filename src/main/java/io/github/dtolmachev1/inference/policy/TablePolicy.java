@@ -1,5 +1,6 @@
 package io.github.dtolmachev1.inference.policy;
 
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.validator.TableValidator;
 
@@ -7,4 +8,6 @@ public interface TablePolicy {
     String name();
 
     void apply(Table table, TableValidator tableValidator);
+
+    void apply(StreamTable table, TableValidator tableValidator);
 }
@@ -0,0 +1,161 @@
+package io.github.dtolmachev1.inference.profile;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class ColumnProfile {
+    private final Map<String, SplitStatistics> splitStatistics;
+    private int version;
+    private int size;
+    private int integerCount;
+    private int doubleCount;
+    private int maxLength;
+    private int distinctCount;
+    private int uniqueCount;
+    private Object header;
+    private boolean integerHeader;
+    private boolean doubleHeader;
+
+    private ColumnProfile() {
+        this.splitStatistics = new HashMap<>();
+    }
+
+    public int version() {
+        return this.version;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int integerCount() {
+        return this.integerCount;
+    }
+
+    public int doubleCount() {
+        return this.doubleCount;
+    }
+
+    public int maxLength() {
+        return this.maxLength;
+    }
+
+    public int distinctCount() {
+        return this.distinctCount;
+    }
+
+    public int uniqueCount() {
+        return this.uniqueCount;
+    }
+
+    public Object header() {
+        return this.header;
+    }
+
+    public boolean isIntegerHeader() {
+        return this.integerHeader;
+    }
+
+    public boolean isDoubleHeader() {
+        return this.doubleHeader;
+    }
+
+    public Optional<SplitStatistics> splitStatistics(String separator) {
+        return Optional.ofNullable(this.splitStatistics.get(separator));
+    }
+
+    public static ColumnProfileBuilder builder() {
+        return new ColumnProfileBuilder();
+    }
+
+    public static class SplitStatistics {
+        private int minSplitCount;
+        private int maxSplitCount;
+
+        public SplitStatistics() {
+            this.minSplitCount = Integer.MAX_VALUE;
+            this.maxSplitCount = 0;
+        }
+
+        public int minSplitCount() {
+            return this.minSplitCount;
+        }
+
+        public int maxSplitCount() {
+            return this.maxSplitCount;
+        }
+
+        public void add(int splitCount, boolean empty) {
+            if (!empty && splitCount < this.minSplitCount) {
+                this.minSplitCount = splitCount;
+            }
+            if (splitCount > this.maxSplitCount) {
+                this.maxSplitCount = splitCount;
+            }
+        }
+    }
+
+    public static class ColumnProfileBuilder {
+        private final ColumnProfile columnProfile;
+
+        private ColumnProfileBuilder() {
+            this.columnProfile = new ColumnProfile();
+        }
+
+        public ColumnProfileBuilder version(int version) {
+            this.columnProfile.version = version;
+            return this;
+        }
+
+        public ColumnProfileBuilder size(int size) {
+            this.columnProfile.size = size;
+            return this;
+        }
+
+        public ColumnProfileBuilder integerCount(int integerCount) {
+            this.columnProfile.integerCount = integerCount;
+            return this;
+        }
+
+        public ColumnProfileBuilder doubleCount(int doubleCount) {
+            this.columnProfile.doubleCount = doubleCount;
+            return this;
+        }
+
+        public ColumnProfileBuilder maxLength(int maxLength) {
+            this.columnProfile.maxLength = maxLength;
+            return this;
+        }
+
+        public ColumnProfileBuilder distinctCount(int distinctCount) {
+            this.columnProfile.distinctCount = distinctCount;
+            return this;
+        }
+
+        public ColumnProfileBuilder uniqueCount(int uniqueCount) {
+            this.columnProfile.uniqueCount = uniqueCount;
+            return this;
+        }
+
+        public ColumnProfileBuilder header(Object header, boolean integerHeader, boolean doubleHeader) {
+            this.columnProfile.header = header;
+            this.columnProfile.integerHeader = integerHeader;
+            this.columnProfile.doubleHeader = doubleHeader;
+            return this;
+        }
+
+        public ColumnProfileBuilder splitStatistics(String separator, SplitStatistics splitStatistics) {
+            this.columnProfile.splitStatistics.put(separator, splitStatistics);
+            return this;
+        }
+
+        public ColumnProfile build() {
+            return this.columnProfile;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.dtolmachev1.inference.profile;
+
+import io.github.dtolmachev1.configuration.Configuration;
+import io.github.dtolmachev1.configuration.XmlConfiguration;
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.ColumnFactory;
+import io.github.dtolmachev1.data.column.ColumnStatistics;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.NumberParser;
+import io.github.dtolmachev1.data.column.StringType;
+import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamTable;
+import io.github.dtolmachev1.data.table.Table;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+public class ColumnProfiler {
+    private final Configuration configuration;
+    private final Map<Column<?>, ColumnProfile> profiles;
+    private final Map<Column<?>, FullColumn> fullColumns;
+    private ReferencedValueIndex referencedValueIndex;
+
+    private ColumnProfiler() {
+        this.configuration = XmlConfiguration.newInstance();
+        this.profiles = new WeakHashMap<>();
+        this.fullColumns = new WeakHashMap<>();
+        this.referencedValueIndex = null;
+    }
+
+    public static ColumnProfiler newInstance() {
+        return ColumnProfilerHolder.COLUMN_PROFILER;
+    }
+
+    public void profile(Database database) {
+        database.forEach(tableEntry -> tableEntry.getValue().forEach(columnEntry -> profile(columnEntry.getValue())));
+    }
+
+    public synchronized ColumnProfile profile(Column<?> column) {
+        ColumnProfile columnProfile = this.profiles.get(column);
+        if (Objects.isNull(columnProfile) || columnProfile.version() != column.version()) {
+            columnProfile = createProfile(column);
+            this.profiles.put(column, columnProfile);
+        }
+        return columnProfile;
+    }
+
+    public synchronized ReferencedValueIndex referencedValueIndex(Map<String, Column<?>> referencedColumns) {
+        if (Objects.isNull(this.referencedValueIndex) || !this.referencedValueIndex.isCurrent(referencedColumns)) {
+            this.referencedValueIndex = new ReferencedValueIndex(referencedColumns);
+        }
+        return this.referencedValueIndex;
+    }
+
+    public synchronized Column<?> referencedColumn(Table table, Column<?> column) {
+        if (!table.isSampled() || table.fullTable().isEmpty() || !table.fullTable().get().contains(column.getName())) {
+            return column;
+        }
+        FullColumn fullColumn = this.fullColumns.get(column);
+        if (Objects.isNull(fullColumn) || fullColumn.version != column.version()) {
+            fullColumn = new FullColumn(column.version(), loadColumn(table.fullTable().get(), column));
+            this.fullColumns.put(column, fullColumn);
+        }
+        return fullColumn.column;
+    }
+
+    public synchronized void clear() {
+        this.profiles.clear();
+        this.fullColumns.clear();
+        this.referencedValueIndex = null;
+    }
+
+    private ColumnProfile createProfile(Column<?> column) {
+        ColumnStatistics statistics = column.statistics();
+        ColumnProfile.ColumnProfileBuilder columnProfileBuilder = ColumnProfile.builder()
+                .version(column.version())
+                .size(column.size())
+                .integerCount(statistics.integerCount())
+                .doubleCount(statistics.doubleCount())
+                .maxLength(statistics.maxLength());
+        Map<String, Pattern> separators = new LinkedHashMap<>();
+        Map<String, ColumnProfile.SplitStatistics> splitStatistics = new HashMap<>();
+        if (column.getType().name().equals(StringType.TYPE_NAME) && statistics.maxLength() >= this.configuration.multiValueReferenceLength()) {
+            this.configuration.multiValueReferenceSeparators().forEach(separator -> {
+                separators.put(separator, Pattern.compile(Pattern.quote(separator)));
+                splitStatistics.put(separator, new ColumnProfile.SplitStatistics());
+            });
+        }
+        Map<Object, Integer> valuesCount = new HashMap<>();
+        boolean header = true;
+        for (Map.Entry<Integer, ?> entry : column) {
+            Object value = entry.getValue();
+            if (header) {
+                columnProfileBuilder.header(value, isInteger(value), isDouble(value));
+                header = false;
+            }
+            if (!(column instanceof DictionaryColumn)) {
+                valuesCount.merge(value, 1, Integer::sum);
+            }
+            if (!separators.isEmpty() && value instanceof String stringValue) {
+                separators.forEach((separator, pattern) -> splitStatistics.get(separator).add(pattern.split(stringValue).length, stringValue.isEmpty()));
+            }
+        }
+        if (column instanceof DictionaryColumn dictionaryColumn) {
+            int[] codesCount = dictionaryColumn.countCodes();
+            int distinctCount = 0;
+            int uniqueCount = 0;
+            for (int codeCount : codesCount) {
+                distinctCount += codeCount > 0 ? 1 : 0;
+                uniqueCount += codeCount == 1 ? 1 : 0;
+            }
+            columnProfileBuilder.distinctCount(distinctCount).uniqueCount(uniqueCount);
+        } else {
+            columnProfileBuilder.distinctCount(valuesCount.size())
+                    .uniqueCount(Math.toIntExact(valuesCount.values().stream()
+                            .filter(count -> count == 1)
+                            .count()));
+        }
+        splitStatistics.forEach(columnProfileBuilder::splitStatistics);
+        return columnProfileBuilder.build();
+    }
+
+    private Column<?> loadColumn(StreamTable fullTable, Column<?> column) {
+        StreamColumn streamColumn = fullTable.get(column.getName());
+        streamColumn.setType(column.getType());
+        if (column.getType().name().equals(IntegerType.TYPE_NAME)) {
+            IntColumn fullColumn = new IntColumn(column.getName(), this.configuration.storage());
+            fullTable.forEachRow(row -> {
+                if (row.isValid(streamColumn)) {
+                    fullColumn.addInt(row.getInt(streamColumn));
+                }
+            });
+            return fullColumn;
+        }
+        if (column.getType().name().equals(DoubleType.TYPE_NAME)) {
+            DoubleColumn fullColumn = new DoubleColumn(column.getName(), this.configuration.storage());
+            fullTable.forEachRow(row -> {
+                if (row.isValid(streamColumn)) {
+                    fullColumn.addDouble(row.getDouble(streamColumn));
+                }
+            });
+            return fullColumn;
+        }
+        Column<String> fullColumn = ColumnFactory.getStringColumn(column.getName(), column.getType(), this.configuration.storage());
+        fullTable.forEachRow(row -> fullColumn.add(row.get(streamColumn)));
+        return fullColumn;
+    }
+
+    private static boolean isInteger(Object value) {
+        return value instanceof Integer || value instanceof String stringValue && NumberParser.isInteger(NumberParser.recognize(stringValue));
+    }
+
+    private static boolean isDouble(Object value) {
+        return value instanceof Integer || value instanceof Double || value instanceof String stringValue && NumberParser.isDouble(NumberParser.recognize(stringValue));
+    }
+
+    private static class FullColumn {
+        private final int version;
+        private final Column<?> column;
+
+        private FullColumn(int version, Column<?> column) {
+            this.version = version;
+            this.column = column;
+        }
+    }
+
+    private static class ColumnProfilerHolder {
+        private static final ColumnProfiler COLUMN_PROFILER = new ColumnProfiler();
+    }
+}
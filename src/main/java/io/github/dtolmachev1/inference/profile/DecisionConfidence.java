@@ -0,0 +1,8 @@
+package io.github.dtolmachev1.inference.profile;
+
+public class DecisionConfidence {
+    public static double of(double ratio, double threshold, int sampleSize) {
+        double margin = ratio - threshold;
+        return 1 - Math.exp(-2 * sampleSize * margin * margin);
+    }
+}
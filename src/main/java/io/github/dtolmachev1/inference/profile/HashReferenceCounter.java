@@ -0,0 +1,37 @@
+package io.github.dtolmachev1.inference.profile;
+
+import io.github.dtolmachev1.data.column.Column;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class HashReferenceCounter implements ReferenceCounter {
+    public static final String COUNTER_NAME = "hash";
+    private final ColumnProfiler columnProfiler;
+
+    private HashReferenceCounter() {
+        this.columnProfiler = ColumnProfiler.newInstance();
+    }
+
+    public static HashReferenceCounter newInstance() {
+        return HashReferenceCounterHolder.HASH_REFERENCE_COUNTER;
+    }
+
+    @Override
+    public String name() {
+        return COUNTER_NAME;
+    }
+
+    @Override
+    public Map<Column<?>, Map<String, Integer>> countReferences(Map<Column<?>, List<String>> referencingCandidates, Map<String, Column<?>> referencedColumns) {
+        ReferencedValueIndex referencedValueIndex = this.columnProfiler.referencedValueIndex(referencedColumns);
+        Map<Column<?>, Map<String, Integer>> referenceCounts = new IdentityHashMap<>();
+        referencingCandidates.forEach((referencingColumn, candidates) -> referenceCounts.put(referencingColumn, referencedValueIndex.countReferences(referencingColumn, entry -> candidates.contains(entry.getKey()))));
+        return referenceCounts;
+    }
+
+    private static class HashReferenceCounterHolder {
+        private static final HashReferenceCounter HASH_REFERENCE_COUNTER = new HashReferenceCounter();
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.dtolmachev1.inference.profile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class MinHashIndex {
+    private static final int HASH_COUNT = 128;
+    private static final int[] ROWS_PER_BAND = {8, 4, 2, 1};
+    private static final double RECALL = 0.999;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private final double containmentThreshold;
+    private final Map<String, long[]> signatures;
+    private final Map<String, Integer> sizes;
+    private final Map<Integer, Partition> partitions;
+
+    public MinHashIndex(double containmentThreshold) {
+        this.containmentThreshold = containmentThreshold;
+        this.signatures = new HashMap<>();
+        this.sizes = new HashMap<>();
+        this.partitions = new TreeMap<>();
+    }
+
+    public void add(String key, Collection<String> tokens) {
+        long[] signature = signature(tokens);
+        int size = tokens.size();
+        this.signatures.put(key, signature);
+        this.sizes.put(key, size);
+        this.partitions.computeIfAbsent(partitionId(size), partitionId -> new Partition()).add(key, size, signature);
+    }
+
+    public Set<String> candidates(String key) {
+        Set<String> candidates = new LinkedHashSet<>();
+        long[] signature = this.signatures.get(key);
+        if (Objects.nonNull(signature)) {
+            int size = this.sizes.get(key);
+            for (Partition partition : this.partitions.values()) {
+                partition.addCandidates(signature, size, this.containmentThreshold, candidates);
+            }
+        }
+        candidates.remove(key);
+        return candidates;
+    }
+
+    private static int partitionId(int size) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    private static long[] signature(Collection<String> tokens) {
+        long[] signature = new long[HASH_COUNT];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String token : tokens) {
+            long tokenHash = mix(token.hashCode());
+            for (int i = 0; i < HASH_COUNT; i++) {
+                signature[i] = Math.min(signature[i], mix(tokenHash + (i + 1) * HASH_MULTIPLIER));
+            }
+        }
+        return signature;
+    }
+
+    private static long[] bands(long[] signature, int rowsPerBand) {
+        long[] bands = new long[HASH_COUNT / rowsPerBand];
+        for (int band = 0; band < bands.length; band++) {
+            long bandHash = band;
+            for (int row = band * rowsPerBand; row < (band + 1) * rowsPerBand; row++) {
+                bandHash = mix(bandHash * HASH_MULTIPLIER + signature[row]);
+            }
+            bands[band] = bandHash;
+        }
+        return bands;
+    }
+
+    private static int rowsPerBand(double jaccardThreshold) {
+        for (int rowsPerBand : ROWS_PER_BAND) {
+            if (1 - Math.pow(1 - Math.pow(jaccardThreshold, rowsPerBand), (double) HASH_COUNT / rowsPerBand) >= RECALL) {
+                return rowsPerBand;
+            }
+        }
+        return 0;
+    }
+
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static class Partition {
+        private final List<String> keys;
+        private final Map<Integer, List<Map<Long, List<String>>>> buckets;
+        private int minSize;
+
+        private Partition() {
+            this.keys = new ArrayList<>();
+            this.buckets = new HashMap<>();
+            this.minSize = Integer.MAX_VALUE;
+        }
+
+        private void add(String key, int size, long[] signature) {
+            this.keys.add(key);
+            this.minSize = Math.min(this.minSize, size);
+            for (int rowsPerBand : ROWS_PER_BAND) {
+                long[] bands = bands(signature, rowsPerBand);
+                List<Map<Long, List<String>>> bandBuckets = this.buckets.computeIfAbsent(rowsPerBand, rows -> new ArrayList<>());
+                for (int band = 0; band < bands.length; band++) {
+                    if (bandBuckets.size() == band) {
+                        bandBuckets.add(new HashMap<>());
+                    }
+                    bandBuckets.get(band).computeIfAbsent(bands[band], value -> new ArrayList<>()).add(key);
+                }
+            }
+        }
+
+        private void addCandidates(long[] signature, int size, double containmentThreshold, Set<String> candidates) {
+            double overlap = containmentThreshold * this.minSize;
+            if (overlap > size) {
+                return;
+            }
+            int rowsPerBand = rowsPerBand(overlap / (size + this.minSize - overlap));
+            if (rowsPerBand == 0) {
+                candidates.addAll(this.keys);
+                return;
+            }
+            long[] bands = bands(signature, rowsPerBand);
+            List<Map<Long, List<String>>> bandBuckets = this.buckets.get(rowsPerBand);
+            for (int band = 0; band < bands.length; band++) {
+                candidates.addAll(bandBuckets.get(band).getOrDefault(bands[band], List.of()));
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.dtolmachev1.inference.profile;
+
+import io.github.dtolmachev1.configuration.Configuration;
+import io.github.dtolmachev1.configuration.XmlConfiguration;
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
+import io.github.dtolmachev1.data.column.IntColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+public class ReferenceCandidatePruner {
+    private static final int BITS_PER_VALUE = 10;
+    private static final int HASH_COUNT = 7;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private final Configuration configuration;
+    private final ColumnProfiler columnProfiler;
+    private final Map<Column<?>, ReferencedSummary> summaries;
+    private final Map<Column<?>, ReferencedFilter> filters;
+
+    private ReferenceCandidatePruner() {
+        this.configuration = XmlConfiguration.newInstance();
+        this.columnProfiler = ColumnProfiler.newInstance();
+        this.summaries = new WeakHashMap<>();
+        this.filters = new WeakHashMap<>();
+    }
+
+    public static ReferenceCandidatePruner newInstance() {
+        return ReferenceCandidatePrunerHolder.REFERENCE_CANDIDATE_PRUNER;
+    }
+
+    public List<String> prune(Column<?> referencingColumn, Map<String, Column<?>> candidates) {
+        List<String> survivingCandidates = new ArrayList<>();
+        if (candidates.isEmpty()) {
+            return survivingCandidates;
+        }
+        int distinctCount = this.columnProfiler.profile(referencingColumn).distinctCount();
+        int[] codesCount = referencingColumn instanceof DictionaryColumn dictionaryColumn ? dictionaryColumn.countCodes() : null;
+        candidates.forEach((tableName, referencedColumn) -> {
+            if (!isPruned(referencingColumn, distinctCount, codesCount, referencedColumn)) {
+                survivingCandidates.add(tableName);
+            }
+        });
+        return survivingCandidates;
+    }
+
+    public synchronized void clear() {
+        this.summaries.clear();
+        this.filters.clear();
+    }
+
+    private boolean isPruned(Column<?> referencingColumn, int distinctCount, int[] codesCount, Column<?> referencedColumn) {
+        int size = referencingColumn.size();
+        if (size == 0) {
+            return false;
+        }
+        ReferencedSummary referencedSummary = summary(referencedColumn);
+        if (referencingColumn instanceof IntColumn && referencedSummary.isRanged() && isDisjoint(referencingColumn, referencedSummary)) {
+            return isBelowThreshold(0, size);
+        }
+        if (isBelowThreshold(size - Math.max(distinctCount - referencedSummary.distinctCount, 0), size)) {
+            return true;
+        }
+        if (referencingColumn instanceof DictionaryColumn dictionaryColumn) {
+            ReferencedFilter referencedFilter = filter(referencedColumn);
+            int missCount = 0;
+            for (int code = 0; code < codesCount.length; code++) {
+                if (codesCount[code] > 0 && !referencedFilter.mightContain(dictionaryColumn.decode(code))) {
+                    missCount += codesCount[code];
+                }
+            }
+            return isBelowThreshold(size - missCount, size);
+        }
+        return false;
+    }
+
+    private boolean isDisjoint(Column<?> referencingColumn, ReferencedSummary referencedSummary) {
+        double minValue = referencingColumn.statistics().minValue();
+        double maxValue = referencingColumn.statistics().maxValue();
+        return !Double.isNaN(minValue) && !Double.isNaN(maxValue) && (maxValue < referencedSummary.minValue || minValue > referencedSummary.maxValue);
+    }
+
+    private boolean isBelowThreshold(int referenceCount, int size) {
+        return (double) referenceCount / size < this.configuration.referenceThreshold();
+    }
+
+    private synchronized ReferencedSummary summary(Column<?> referencedColumn) {
+        ReferencedSummary referencedSummary = this.summaries.get(referencedColumn);
+        if (Objects.isNull(referencedSummary) || referencedSummary.version != referencedColumn.version()) {
+            referencedSummary = new ReferencedSummary(referencedColumn, this.columnProfiler.profile(referencedColumn).distinctCount());
+            this.summaries.put(referencedColumn, referencedSummary);
+        }
+        return referencedSummary;
+    }
+
+    private synchronized ReferencedFilter filter(Column<?> referencedColumn) {
+        ReferencedFilter referencedFilter = this.filters.get(referencedColumn);
+        if (Objects.isNull(referencedFilter) || referencedFilter.version != referencedColumn.version()) {
+            referencedFilter = new ReferencedFilter(referencedColumn, this.columnProfiler.profile(referencedColumn).distinctCount());
+            this.filters.put(referencedColumn, referencedFilter);
+        }
+        return referencedFilter;
+    }
+
+    private static long hash(Object value) {
+        long hashCode = Objects.hashCode(value);
+        long hash = (hashCode ^ (hashCode << 32)) * HASH_MULTIPLIER;
+        hash ^= hash >>> 29;
+        return hash * HASH_MULTIPLIER;
+    }
+
+    private static class ReferencedSummary {
+        private final int version;
+        private final int distinctCount;
+        private final double minValue;
+        private final double maxValue;
+
+        private ReferencedSummary(Column<?> column, int distinctCount) {
+            this.version = column.version();
+            this.distinctCount = distinctCount;
+            boolean ranged = column instanceof IntColumn;
+            this.minValue = ranged ? column.statistics().minValue() : Double.NaN;
+            this.maxValue = ranged ? column.statistics().maxValue() : Double.NaN;
+        }
+
+        private boolean isRanged() {
+            return !Double.isNaN(this.minValue) && !Double.isNaN(this.maxValue);
+        }
+    }
+
+    private static class ReferencedFilter {
+        private final int version;
+        private final long[] bits;
+
+        private ReferencedFilter(Column<?> column, int distinctCount) {
+            this.version = column.version();
+            this.bits = new long[Math.max((int) (((long) distinctCount * BITS_PER_VALUE + Long.SIZE - 1) / Long.SIZE), 1)];
+            if (column instanceof DictionaryColumn dictionaryColumn) {
+                int[] codesCount = dictionaryColumn.countCodes();
+                for (int code = 0; code < codesCount.length; code++) {
+                    if (codesCount[code] > 0) {
+                        add(dictionaryColumn.decode(code));
+                    }
+                }
+            } else {
+                column.forEach(entry -> add(entry.getValue()));
+            }
+        }
+
+        private void add(Object value) {
+            long hash = hash(value);
+            int first = (int) hash;
+            int second = (int) (hash >>> 32);
+            long bitCount = (long) this.bits.length * Long.SIZE;
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long bit = Integer.toUnsignedLong(first + i * second) % bitCount;
+                this.bits[(int) (bit / Long.SIZE)] |= 1L << (bit % Long.SIZE);
+            }
+        }
+
+        private boolean mightContain(Object value) {
+            long hash = hash(value);
+            int first = (int) hash;
+            int second = (int) (hash >>> 32);
+            long bitCount = (long) this.bits.length * Long.SIZE;
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long bit = Integer.toUnsignedLong(first + i * second) % bitCount;
+                if ((this.bits[(int) (bit / Long.SIZE)] & (1L << (bit % Long.SIZE))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class ReferenceCandidatePrunerHolder {
+        private static final ReferenceCandidatePruner REFERENCE_CANDIDATE_PRUNER = new ReferenceCandidatePruner();
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.dtolmachev1.inference.profile;
+
+import io.github.dtolmachev1.data.column.Column;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReferenceCounter {
+    String name();
+
+    Map<Column<?>, Map<String, Integer>> countReferences(Map<Column<?>, List<String>> referencingCandidates, Map<String, Column<?>> referencedColumns);
+}
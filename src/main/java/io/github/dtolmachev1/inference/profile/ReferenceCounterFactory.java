@@ -0,0 +1,17 @@
+package io.github.dtolmachev1.inference.profile;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class ReferenceCounterFactory {
+    private static final Map<String, Supplier<ReferenceCounter>> REFERENCE_COUNTERS = Map.ofEntries(
+            new AbstractMap.SimpleImmutableEntry<>(HashReferenceCounter.COUNTER_NAME, HashReferenceCounter::newInstance),
+            new AbstractMap.SimpleImmutableEntry<>(SortMergeReferenceCounter.COUNTER_NAME, SortMergeReferenceCounter::newInstance)
+    );
+
+    public static ReferenceCounter getReferenceCounter(String name) {
+        return Objects.requireNonNullElse(REFERENCE_COUNTERS.get(name), () -> null).get();
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.dtolmachev1.inference.profile;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public class ReferencedValueIndex {
+    private static final int[] NO_CANDIDATES = new int[0];
+    private final List<String> tableNames;
+    private final List<Column<?>> columns;
+    private final int[] versions;
+    private final Map<String, Integer> candidateIds;
+    private final Map<Object, int[]> candidates;
+
+    public ReferencedValueIndex(Map<String, Column<?>> referencedColumns) {
+        this.tableNames = new ArrayList<>(referencedColumns.size());
+        this.columns = new ArrayList<>(referencedColumns.size());
+        this.versions = new int[referencedColumns.size()];
+        this.candidateIds = new HashMap<>();
+        this.candidates = new HashMap<>();
+        for (Map.Entry<String, Column<?>> entry : referencedColumns.entrySet()) {
+            int candidateId = this.tableNames.size();
+            this.tableNames.add(entry.getKey());
+            this.columns.add(entry.getValue());
+            this.versions[candidateId] = entry.getValue().version();
+            this.candidateIds.put(entry.getKey(), candidateId);
+            indexColumn(entry.getValue(), candidateId);
+        }
+    }
+
+    public boolean isCurrent(Map<String, Column<?>> referencedColumns) {
+        if (referencedColumns.size() != this.tableNames.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Column<?>> entry : referencedColumns.entrySet()) {
+            Integer candidateId = this.candidateIds.get(entry.getKey());
+            if (Objects.isNull(candidateId) || this.columns.get(candidateId) != entry.getValue() || this.versions[candidateId] != entry.getValue().version()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Map<String, Integer> countReferences(Column<?> referencingColumn, Predicate<Map.Entry<String, Column<?>>> candidateFilter) {
+        boolean[] selectedCandidates = new boolean[this.tableNames.size()];
+        boolean anySelected = false;
+        for (int candidateId = 0; candidateId < selectedCandidates.length; candidateId++) {
+            selectedCandidates[candidateId] = candidateFilter.test(new AbstractMap.SimpleImmutableEntry<>(this.tableNames.get(candidateId), this.columns.get(candidateId)));
+            anySelected |= selectedCandidates[candidateId];
+        }
+        Map<String, Integer> referenceCount = new HashMap<>();
+        if (!anySelected) {
+            return referenceCount;
+        }
+        int[] counts = new int[selectedCandidates.length];
+        if (referencingColumn instanceof DictionaryColumn dictionaryColumn) {
+            int[] codesCount = dictionaryColumn.countCodes();
+            for (int code = 0; code < codesCount.length; code++) {
+                if (codesCount[code] > 0) {
+                    countValue(dictionaryColumn.decode(code), codesCount[code], counts);
+                }
+            }
+        } else {
+            for (Map.Entry<Integer, ?> entry : referencingColumn) {
+                countValue(entry.getValue(), 1, counts);
+            }
+        }
+        for (int candidateId = 0; candidateId < selectedCandidates.length; candidateId++) {
+            if (selectedCandidates[candidateId]) {
+                referenceCount.put(this.tableNames.get(candidateId), counts[candidateId]);
+            }
+        }
+        return referenceCount;
+    }
+
+    private void indexColumn(Column<?> column, int candidateId) {
+        if (column instanceof DictionaryColumn dictionaryColumn) {
+            int[] codesCount = dictionaryColumn.countCodes();
+            for (int code = 0; code < codesCount.length; code++) {
+                if (codesCount[code] > 0) {
+                    indexValue(dictionaryColumn.decode(code), candidateId);
+                }
+            }
+            return;
+        }
+        for (Map.Entry<Integer, ?> entry : column) {
+            indexValue(entry.getValue(), candidateId);
+        }
+    }
+
+    private void indexValue(Object value, int candidateId) {
+        int[] valueCandidates = this.candidates.getOrDefault(value, NO_CANDIDATES);
+        if (valueCandidates.length > 0 && valueCandidates[valueCandidates.length - 1] == candidateId) {
+            return;
+        }
+        int[] newCandidates = Arrays.copyOf(valueCandidates, valueCandidates.length + 1);
+        newCandidates[valueCandidates.length] = candidateId;
+        this.candidates.put(value, newCandidates);
+    }
+
+    private void countValue(Object value, int count, int[] counts) {
+        for (int candidateId : this.candidates.getOrDefault(value, NO_CANDIDATES)) {
+            counts[candidateId] += count;
+        }
+    }
+}
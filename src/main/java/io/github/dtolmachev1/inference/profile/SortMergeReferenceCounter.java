@@ -0,0 +1,231 @@
+package io.github.dtolmachev1.inference.profile;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.RowSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+public class SortMergeReferenceCounter implements ReferenceCounter {
+    public static final String COUNTER_NAME = "sort-merge";
+    private static final Comparator<Object> VALUE_ORDER = Comparator.nullsFirst(Comparator.comparing((Object value) -> value.getClass().getName()).thenComparing(SortMergeReferenceCounter::compareValues));
+
+    private SortMergeReferenceCounter() {
+    }
+
+    public static SortMergeReferenceCounter newInstance() {
+        return SortMergeReferenceCounterHolder.SORT_MERGE_REFERENCE_COUNTER;
+    }
+
+    @Override
+    public String name() {
+        return COUNTER_NAME;
+    }
+
+    @Override
+    public Map<Column<?>, Map<String, Integer>> countReferences(Map<Column<?>, List<String>> referencingCandidates, Map<String, Column<?>> referencedColumns) {
+        List<Column<?>> referencingColumns = new ArrayList<>(referencingCandidates.keySet());
+        List<String> referencedTableNames = referencingCandidates.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .toList();
+        Map<String, Integer> referencedIds = new HashMap<>();
+        for (int i = 0; i < referencedTableNames.size(); i++) {
+            referencedIds.put(referencedTableNames.get(i), i);
+        }
+        int[][] candidateIds = new int[referencingColumns.size()][];
+        int[][] candidateCounts = new int[referencingColumns.size()][];
+        for (int i = 0; i < referencingColumns.size(); i++) {
+            candidateIds[i] = referencingCandidates.get(referencingColumns.get(i)).stream()
+                    .mapToInt(referencedIds::get)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            candidateCounts[i] = new int[candidateIds[i].length];
+        }
+        PriorityQueue<ValueCursor> cursors = new PriorityQueue<>(Comparator.comparing(ValueCursor::value, VALUE_ORDER));
+        for (int i = 0; i < referencedTableNames.size(); i++) {
+            addCursor(cursors, new ValueCursor(referencedColumns.get(referencedTableNames.get(i)), i, true));
+        }
+        for (int i = 0; i < referencingColumns.size(); i++) {
+            addCursor(cursors, new ValueCursor(referencingColumns.get(i), i, false));
+        }
+        List<ValueCursor> group = new ArrayList<>();
+        int[] groupReferencedIds = new int[referencedTableNames.size()];
+        while (!cursors.isEmpty()) {
+            ValueCursor first = cursors.poll();
+            group.add(first);
+            while (!cursors.isEmpty() && VALUE_ORDER.compare(cursors.peek().value(), first.value()) == 0) {
+                group.add(cursors.poll());
+            }
+            int referencedCount = 0;
+            for (ValueCursor cursor : group) {
+                if (cursor.referenced) {
+                    groupReferencedIds[referencedCount] = cursor.columnId;
+                    referencedCount += 1;
+                }
+            }
+            for (ValueCursor cursor : group) {
+                if (!cursor.referenced) {
+                    for (int i = 0; i < referencedCount; i++) {
+                        int candidate = Arrays.binarySearch(candidateIds[cursor.columnId], groupReferencedIds[i]);
+                        if (candidate >= 0) {
+                            candidateCounts[cursor.columnId][candidate] += cursor.count();
+                        }
+                    }
+                }
+                cursor.advance();
+                addCursor(cursors, cursor);
+            }
+            group.clear();
+        }
+        Map<Column<?>, Map<String, Integer>> referenceCounts = new IdentityHashMap<>();
+        for (int i = 0; i < referencingColumns.size(); i++) {
+            Map<String, Integer> referenceCount = new HashMap<>();
+            for (int j = 0; j < candidateIds[i].length; j++) {
+                referenceCount.put(referencedTableNames.get(candidateIds[i][j]), candidateCounts[i][j]);
+            }
+            referenceCounts.put(referencingColumns.get(i), referenceCount);
+        }
+        return referenceCounts;
+    }
+
+    private static void addCursor(PriorityQueue<ValueCursor> cursors, ValueCursor cursor) {
+        if (cursor.hasValue()) {
+            cursors.add(cursor);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object first, Object second) {
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    private static class ValueCursor {
+        private final int columnId;
+        private final boolean referenced;
+        private final Object[] values;
+        private final int[] counts;
+        private final int size;
+        private int position;
+
+        private ValueCursor(Column<?> column, int columnId, boolean referenced) {
+            this.columnId = columnId;
+            this.referenced = referenced;
+            Object[] sortedValues;
+            int[] sortedCounts;
+            int distinctCount = 0;
+            if (column instanceof DictionaryColumn dictionaryColumn) {
+                int[] codesCount = dictionaryColumn.countCodes();
+                Integer[] codes = new Integer[codesCount.length];
+                for (int code = 0; code < codesCount.length; code++) {
+                    if (codesCount[code] > 0) {
+                        codes[distinctCount] = code;
+                        distinctCount += 1;
+                    }
+                }
+                Arrays.sort(codes, 0, distinctCount, Comparator.comparing(dictionaryColumn::decode, VALUE_ORDER));
+                sortedValues = new Object[distinctCount];
+                sortedCounts = new int[distinctCount];
+                for (int i = 0; i < distinctCount; i++) {
+                    sortedValues[i] = dictionaryColumn.decode(codes[i]);
+                    sortedCounts[i] = codesCount[codes[i]];
+                }
+            } else if (column instanceof IntColumn intColumn) {
+                int[] values = new int[intColumn.size()];
+                RowSet rows = intColumn.rows();
+                int size = 0;
+                for (int id = rows.next(0); id >= 0; id = rows.next(id + 1)) {
+                    values[size] = intColumn.getInt(id);
+                    size += 1;
+                }
+                Arrays.sort(values, 0, size);
+                sortedCounts = new int[size];
+                for (int i = 0; i < size; i++) {
+                    if (distinctCount > 0 && values[distinctCount - 1] == values[i]) {
+                        sortedCounts[distinctCount - 1] += 1;
+                    } else {
+                        values[distinctCount] = values[i];
+                        sortedCounts[distinctCount] = 1;
+                        distinctCount += 1;
+                    }
+                }
+                sortedValues = new Object[distinctCount];
+                for (int i = 0; i < distinctCount; i++) {
+                    sortedValues[i] = values[i];
+                }
+            } else if (column instanceof DoubleColumn doubleColumn) {
+                double[] values = new double[doubleColumn.size()];
+                RowSet rows = doubleColumn.rows();
+                int size = 0;
+                for (int id = rows.next(0); id >= 0; id = rows.next(id + 1)) {
+                    values[size] = doubleColumn.getDouble(id);
+                    size += 1;
+                }
+                Arrays.sort(values, 0, size);
+                sortedCounts = new int[size];
+                for (int i = 0; i < size; i++) {
+                    if (distinctCount > 0 && Double.compare(values[distinctCount - 1], values[i]) == 0) {
+                        sortedCounts[distinctCount - 1] += 1;
+                    } else {
+                        values[distinctCount] = values[i];
+                        sortedCounts[distinctCount] = 1;
+                        distinctCount += 1;
+                    }
+                }
+                sortedValues = new Object[distinctCount];
+                for (int i = 0; i < distinctCount; i++) {
+                    sortedValues[i] = values[i];
+                }
+            } else {
+                sortedValues = column.stream()
+                        .map(Map.Entry::getValue)
+                        .toArray();
+                Arrays.sort(sortedValues, VALUE_ORDER);
+                sortedCounts = new int[sortedValues.length];
+                for (Object value : sortedValues) {
+                    if (distinctCount > 0 && VALUE_ORDER.compare(sortedValues[distinctCount - 1], value) == 0) {
+                        sortedCounts[distinctCount - 1] += 1;
+                    } else {
+                        sortedValues[distinctCount] = value;
+                        sortedCounts[distinctCount] = 1;
+                        distinctCount += 1;
+                    }
+                }
+            }
+            this.values = sortedValues;
+            this.counts = sortedCounts;
+            this.size = distinctCount;
+            this.position = 0;
+        }
+
+        private boolean hasValue() {
+            return this.position < this.size;
+        }
+
+        private Object value() {
+            return this.values[this.position];
+        }
+
+        private int count() {
+            return this.counts[this.position];
+        }
+
+        private void advance() {
+            this.position += 1;
+        }
+    }
+
+    private static class SortMergeReferenceCounterHolder {
+        private static final SortMergeReferenceCounter SORT_MERGE_REFERENCE_COUNTER = new SortMergeReferenceCounter();
+    }
+}
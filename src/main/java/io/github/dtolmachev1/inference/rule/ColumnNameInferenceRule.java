@@ -3,17 +3,14 @@ package io.github.dtolmachev1.inference.rule;
 import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
-import io.github.dtolmachev1.data.column.ColumnTypeFactory;
-import io.github.dtolmachev1.data.column.IntegerType;
 import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisBuilderFactory;
 import io.github.dtolmachev1.inference.analysis.ColumnNameAnalysis;
-import io.github.dtolmachev1.inference.validator.ColumnTypeValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidatorBuilderFactory;
+import io.github.dtolmachev1.inference.profile.ColumnProfile;
+import io.github.dtolmachev1.inference.profile.ColumnProfiler;
 
 import java.util.AbstractMap;
 import java.util.Map;
@@ -23,9 +20,11 @@ import java.util.stream.Collectors;
 public class ColumnNameInferenceRule implements InferenceRule {
     public static final String INFERENCE_RULE_NAME = "column-name";
     private final Configuration configuration;
+    private final ColumnProfiler columnProfiler;
 
     private ColumnNameInferenceRule() {
         this.configuration = XmlConfiguration.newInstance();
+        this.columnProfiler = ColumnProfiler.newInstance();
     }
 
     public static ColumnNameInferenceRule newInstance() {
@@ -60,29 +59,18 @@ public class ColumnNameInferenceRule implements InferenceRule {
         return 0;
     }
 
-    @SuppressWarnings("DuplicatedCode")
     private Optional<String> determineColumnName(Column<String> column) {
-        ColumnValidator integerValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
-                .column(column)
-                .columnType(ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME))
-                .build();
-        ColumnValidator doubleValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
-                .column(column)
-                .columnType(ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME))
-                .build();
-        int integerCount = Math.toIntExact(column.stream()
-                .filter(entry -> integerValidator.isValid(entry.getKey()))
-                .count());
-        int doubleCount = Math.toIntExact(column.stream()
-                .filter(entry -> doubleValidator.isValid(entry.getKey()))
-                .count());
-        int id = column.stream().map(Map.Entry::getKey).findFirst().orElse(0);
-        if ((double) integerCount / column.size() >= this.configuration.typeThreshold() && integerCount >= doubleCount) {
-            return !integerValidator.isValid(id) ? Optional.of(column.get(id)) : Optional.empty();
-        } else if ((double) doubleCount / column.size() >= this.configuration.typeThreshold()) {
-            return !doubleValidator.isValid(id) ? Optional.of(column.get(id)) : Optional.empty();
+        ColumnProfile columnProfile = this.columnProfiler.profile(column);
+        if (columnProfile.isEmpty()) {
+            return Optional.empty();
+        }
+        String header = (String) columnProfile.header();
+        if ((double) columnProfile.integerCount() / columnProfile.size() >= this.configuration.typeThreshold() && columnProfile.integerCount() >= columnProfile.doubleCount()) {
+            return !columnProfile.isIntegerHeader() ? Optional.ofNullable(header) : Optional.empty();
+        } else if ((double) columnProfile.doubleCount() / columnProfile.size() >= this.configuration.typeThreshold()) {
+            return !columnProfile.isDoubleHeader() ? Optional.ofNullable(header) : Optional.empty();
         } else {
-            return Optional.of(column.get(id));
+            return Optional.ofNullable(header);
         }
     }
 
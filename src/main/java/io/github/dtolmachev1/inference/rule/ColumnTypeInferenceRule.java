@@ -13,18 +13,20 @@ import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisBuilderFactory;
 import io.github.dtolmachev1.inference.analysis.ColumnTypeAnalysis;
-import io.github.dtolmachev1.inference.validator.ColumnTypeValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidatorBuilderFactory;
+import io.github.dtolmachev1.inference.profile.ColumnProfile;
+import io.github.dtolmachev1.inference.profile.ColumnProfiler;
+import io.github.dtolmachev1.inference.profile.DecisionConfidence;
 
 import java.util.Optional;
 
 public class ColumnTypeInferenceRule implements InferenceRule {
     public static final String INFERENCE_RULE_NAME = "column-type";
     private final Configuration configuration;
+    private final ColumnProfiler columnProfiler;
 
     private ColumnTypeInferenceRule() {
         this.configuration = XmlConfiguration.newInstance();
+        this.columnProfiler = ColumnProfiler.newInstance();
     }
 
     public static ColumnTypeInferenceRule newInstance() {
@@ -47,39 +49,41 @@ public class ColumnTypeInferenceRule implements InferenceRule {
     private void determineColumnTypes(Table table, ColumnTypeAnalysis.ColumnTypeAnalysisBuilder columnTypeAnalysisBuilder) {
         table.stream()
                 .filter(columnEntry -> columnEntry.getValue().getType().name().equals(StringType.TYPE_NAME))
-                .forEach(columnEntry -> columnTypeAnalysisBuilder.columnType(table.getName(), columnEntry.getKey(), determineColumnType((Column<String>) columnEntry.getValue())));
+                .forEach(columnEntry -> {
+                    ColumnType columnType = determineColumnType((Column<String>) columnEntry.getValue());
+                    columnTypeAnalysisBuilder.columnType(table.getName(), columnEntry.getKey(), columnType);
+                    if (table.isSampled()) {
+                        columnTypeAnalysisBuilder.confidence(table.getName(), columnEntry.getKey(), determineConfidence(columnEntry.getValue(), columnType));
+                    }
+                });
     }
 
-    @SuppressWarnings("DuplicatedCode")
     private ColumnType determineColumnType(Column<String> column) {
-        ColumnValidator integerValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(INFERENCE_RULE_NAME))
-                .column(column)
-                .columnType(ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME))
-                .build();
-        ColumnValidator doubleValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(INFERENCE_RULE_NAME))
-                .column(column)
-                .columnType(ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME))
-                .build();
-        int integerCount = Math.toIntExact(column.stream()
-                .filter(entry -> integerValidator.isValid(entry.getKey()))
-                .count());
-        int doubleCount = Math.toIntExact(column.stream()
-                .filter(entry -> doubleValidator.isValid(entry.getKey()))
-                .count());
-        if ((double) integerCount / column.size() >= this.configuration.typeThreshold() && integerCount >= doubleCount) {
+        ColumnProfile columnProfile = this.columnProfiler.profile(column);
+        int integerCount = columnProfile.integerCount();
+        int doubleCount = columnProfile.doubleCount();
+        if ((double) integerCount / columnProfile.size() >= this.configuration.typeThreshold() && integerCount >= doubleCount) {
             return ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME);
         }
-        if ((double) doubleCount / column.size() >= this.configuration.typeThreshold()) {
+        if ((double) doubleCount / columnProfile.size() >= this.configuration.typeThreshold()) {
             return ColumnTypeFactory.getColumnType(DoubleType.TYPE_NAME);
         }
         StringType stringType = (StringType) ColumnTypeFactory.getColumnType(StringType.TYPE_NAME);
-        stringType.setMaxLength(column.stream()
-                .map(entry -> entry.getValue().length())
-                .max(Integer::compare)
-                .orElse(0));
+        stringType.setMaxLength(columnProfile.maxLength());
         return stringType;
     }
 
+    private double determineConfidence(Column<?> column, ColumnType columnType) {
+        ColumnProfile columnProfile = this.columnProfiler.profile(column);
+        double integerConfidence = DecisionConfidence.of((double) columnProfile.integerCount() / columnProfile.size(), this.configuration.typeThreshold(), columnProfile.size());
+        double doubleConfidence = DecisionConfidence.of((double) columnProfile.doubleCount() / columnProfile.size(), this.configuration.typeThreshold(), columnProfile.size());
+        return switch (columnType.name()) {
+            case IntegerType.TYPE_NAME -> integerConfidence;
+            case DoubleType.TYPE_NAME -> doubleConfidence;
+            default -> Math.min(integerConfidence, doubleConfidence);
+        };
+    }
+
     private static class ColumnTypeInferenceRuleHolder {
         private static final ColumnTypeInferenceRule COLUMN_TYPE_INFERENCE_RULE = new ColumnTypeInferenceRule();
     }
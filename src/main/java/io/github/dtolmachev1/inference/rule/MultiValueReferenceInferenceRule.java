@@ -3,10 +3,13 @@ package io.github.dtolmachev1.inference.rule;
 import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.ColumnFactory;
+import io.github.dtolmachev1.data.column.ColumnStatistics;
 import io.github.dtolmachev1.data.column.ColumnType;
 import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.DoubleColumn;
 import io.github.dtolmachev1.data.column.DoubleType;
-import io.github.dtolmachev1.data.column.GenericColumn;
+import io.github.dtolmachev1.data.column.IntColumn;
 import io.github.dtolmachev1.data.column.IntegerType;
 import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
@@ -14,10 +17,11 @@ import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisBuilderFactory;
 import io.github.dtolmachev1.inference.analysis.MultiValueReferenceAnalysis;
+import io.github.dtolmachev1.inference.profile.ColumnProfile;
+import io.github.dtolmachev1.inference.profile.ColumnProfiler;
+import io.github.dtolmachev1.inference.profile.ReferencedValueIndex;
 import io.github.dtolmachev1.inference.validator.ColumnTypeValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidator;
 import io.github.dtolmachev1.inference.validator.ColumnValidatorBuilderFactory;
-import io.github.dtolmachev1.inference.validator.MultiValueReferenceValidator;
 
 import java.util.AbstractMap;
 import java.util.Iterator;
@@ -32,9 +36,11 @@ public class MultiValueReferenceInferenceRule implements InferenceRule {
     private static final String NEW_ID_COLUMN_NAME = "id";
     private static final String NEW_COLUMN_NAME_SUFFIX = "_id";
     private final Configuration configuration;
+    private final ColumnProfiler columnProfiler;
 
     private MultiValueReferenceInferenceRule() {
         this.configuration = XmlConfiguration.newInstance();
+        this.columnProfiler = ColumnProfiler.newInstance();
     }
 
     public static MultiValueReferenceInferenceRule newInstance() {
@@ -58,30 +64,31 @@ public class MultiValueReferenceInferenceRule implements InferenceRule {
                 .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().columnWithUniqueConstraint()))
                 .filter(entry -> entry.getValue().isPresent())
                 .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+        Map<String, Column<?>> referencedColumns = columnsWithUniqueConstraint.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> this.columnProfiler.referencedColumn(database.get(entry.getKey()), entry.getValue())));
+        ReferencedValueIndex referencedValueIndex = this.columnProfiler.referencedValueIndex(referencedColumns);
         return database.stream()
-                .map(entry -> determineMultiValueReferencingTable(entry.getValue(), columnsWithUniqueConstraint, multiValueReferenceAnalysisBuilder))
+                .map(entry -> determineMultiValueReferencingTable(entry.getValue(), columnsWithUniqueConstraint, referencedValueIndex, multiValueReferenceAnalysisBuilder))
                 .reduce(0, Integer::sum);
     }
 
     @SuppressWarnings("unchecked")
-    private int determineMultiValueReferencingTable(Table referencingTable, Map<String, Column<?>> columnsWithUniqueConstraint, MultiValueReferenceAnalysis.MultiValueReferenceAnalysisBuilder multiValueReferenceAnalysisBuilder) {
+    private int determineMultiValueReferencingTable(Table referencingTable, Map<String, Column<?>> columnsWithUniqueConstraint, ReferencedValueIndex referencedValueIndex, MultiValueReferenceAnalysis.MultiValueReferenceAnalysisBuilder multiValueReferenceAnalysisBuilder) {
         return Math.toIntExact(referencingTable.stream()
                 .filter(entry -> entry.getValue().getType().name().equals(StringType.TYPE_NAME) && ((StringType) entry.getValue().getType()).getMaxLength() >= this.configuration.multiValueReferenceLength() && Optional.ofNullable(columnsWithUniqueConstraint.get(referencingTable.getName())).map(column -> !column.getName().equals(entry.getKey())).orElse(true))
-                .map(entry -> determineMultiValueReferencingColumn(referencingTable.getName(), (Column<String>) entry.getValue(), columnsWithUniqueConstraint, multiValueReferenceAnalysisBuilder))
+                .map(entry -> determineMultiValueReferencingColumn(referencingTable.getName(), (Column<String>) entry.getValue(), columnsWithUniqueConstraint, referencedValueIndex, multiValueReferenceAnalysisBuilder))
                 .filter(value -> value)
                 .count());
     }
 
     @SuppressWarnings("DuplicatedCode")
-    private boolean determineMultiValueReferencingColumn(String referencingTableName, Column<String> multiValueReferencingColumn, Map<String, Column<?>> columnsWithUniqueConstraint, MultiValueReferenceAnalysis.MultiValueReferenceAnalysisBuilder multiValueReferenceAnalysisBuilder) {
+    private boolean determineMultiValueReferencingColumn(String referencingTableName, Column<String> multiValueReferencingColumn, Map<String, Column<?>> columnsWithUniqueConstraint, ReferencedValueIndex referencedValueIndex, MultiValueReferenceAnalysis.MultiValueReferenceAnalysisBuilder multiValueReferenceAnalysisBuilder) {
         Optional<String> multiValueReferenceSeparator = determineMultiValueReferenceSeparator(multiValueReferencingColumn);
         if (multiValueReferenceSeparator.isEmpty()) {
             return false;
         }
         Column<?> referencingColumn = createReferencingColumn(multiValueReferencingColumn, multiValueReferenceSeparator.get());
-        Map<String, Integer> referenceCount = columnsWithUniqueConstraint.entrySet().stream()
-                .filter(entry -> !referencingTableName.equals(entry.getKey()) && referencingColumn.getType().name().equals(entry.getValue().getType().name()))
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> countReference(referencingColumn, entry.getValue())));
+        Map<String, Integer> referenceCount = referencedValueIndex.countReferences(referencingColumn, entry -> !referencingTableName.equals(entry.getKey()) && referencingColumn.getType().name().equals(entry.getValue().getType().name()));
         Optional<String> referenceCandidate = determineCandidate(referencingColumn, referenceCount);
         if (referenceCandidate.isPresent()) {
             multiValueReferenceAnalysisBuilder.multiValueReference(referencingTableName, referencingColumn.getName(), multiValueReferenceSeparator.get(), referenceCandidate.get(), columnsWithUniqueConstraint.get(referenceCandidate.get()).getName(), referencingTableName + NEW_TABLE_NAME_SUFFIX + referenceCandidate.get(), NEW_ID_COLUMN_NAME, referencingTableName + NEW_COLUMN_NAME_SUFFIX, referenceCandidate.get() + NEW_COLUMN_NAME_SUFFIX);
@@ -99,28 +106,21 @@ public class MultiValueReferenceInferenceRule implements InferenceRule {
     }
 
     private int countMultiValueReferences(Column<String> multiValueReferencingColumn, String multiValueReferenceSeparator) {
-        int maxSplitCount = 0;
-        for (Map.Entry<Integer, String> columnEntry : multiValueReferencingColumn) {
-            int splitCount = columnEntry.getValue().split(Pattern.quote(multiValueReferenceSeparator)).length;
-            if (!columnEntry.getValue().isEmpty() && splitCount < this.configuration.multiValueReferenceCount()) {
-                return 0;
-            }
-            if (splitCount > maxSplitCount) {
-                maxSplitCount = splitCount;
-            }
-        }
-        return maxSplitCount;
+        return this.columnProfiler.profile(multiValueReferencingColumn).splitStatistics(multiValueReferenceSeparator)
+                .filter(splitStatistics -> splitStatistics.minSplitCount() >= this.configuration.multiValueReferenceCount())
+                .map(ColumnProfile.SplitStatistics::maxSplitCount)
+                .orElse(0);
     }
 
     private Column<?> createReferencingColumn(Column<String> multiValueReferencingColumn, String multiValueReferenceSeparator) {
         Column<String> stringColumn = createStringColumn(multiValueReferencingColumn, multiValueReferenceSeparator);
         ColumnType columnType = determineColumnType(stringColumn);
-        validateColumn(stringColumn, columnType);
-        return createColumn(stringColumn, columnType);
+        ColumnTypeValidator columnTypeValidator = validateColumn(stringColumn, columnType);
+        return createColumn(stringColumn, columnType, columnTypeValidator);
     }
 
     private Column<String> createStringColumn(Column<String> multiValueReferencingColumn, String multiValueReferenceSeparator) {
-        Column<String> stringColumn = new GenericColumn<>(multiValueReferencingColumn.getName(), ColumnTypeFactory.getColumnType(StringType.TYPE_NAME));
+        Column<String> stringColumn = ColumnFactory.getStringColumn(multiValueReferencingColumn.getName(), ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), this.configuration.storage());
         for (Map.Entry<Integer, String> columnEntry : multiValueReferencingColumn) {
             for (String splitValue : columnEntry.getValue().split(Pattern.quote(multiValueReferenceSeparator))) {
                 stringColumn.add(splitValue);
@@ -131,20 +131,9 @@ public class MultiValueReferenceInferenceRule implements InferenceRule {
 
     @SuppressWarnings("DuplicatedCode")
     private ColumnType determineColumnType(Column<String> column) {
-        ColumnValidator integerValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
-                .column(column)
-                .columnType(ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME))
-                .build();
-        ColumnValidator doubleValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
-                .column(column)
-                .columnType(ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME))
-                .build();
-        int integerCount = Math.toIntExact(column.stream()
-                .filter(entry -> integerValidator.isValid(entry.getKey()))
-                .count());
-        int doubleCount = Math.toIntExact(column.stream()
-                .filter(entry -> doubleValidator.isValid(entry.getKey()))
-                .count());
+        ColumnStatistics statistics = column.statistics();
+        int integerCount = statistics.integerCount();
+        int doubleCount = statistics.doubleCount();
         if ((double) integerCount / column.size() >= this.configuration.typeThreshold() && integerCount >= doubleCount) {
             return ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME);
         }
@@ -152,15 +141,12 @@ public class MultiValueReferenceInferenceRule implements InferenceRule {
             return ColumnTypeFactory.getColumnType(DoubleType.TYPE_NAME);
         }
         StringType stringType = (StringType) ColumnTypeFactory.getColumnType(StringType.TYPE_NAME);
-        stringType.setMaxLength(column.stream()
-                .map(entry -> entry.getValue().length())
-                .max(Integer::compare)
-                .orElse(1));
+        stringType.setMaxLength(column.isEmpty() ? 1 : statistics.maxLength());
         return stringType;
     }
 
-    private void validateColumn(Column<String> sourceColumn, ColumnType columnType) {
-        ColumnValidator columnValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
+    private ColumnTypeValidator validateColumn(Column<String> sourceColumn, ColumnType columnType) {
+        ColumnTypeValidator columnValidator = ((ColumnTypeValidator.ColumnTypeValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(ColumnTypeValidator.VALIDATOR_NAME))
                 .column(sourceColumn)
                 .columnType(columnType)
                 .build();
@@ -170,41 +156,29 @@ public class MultiValueReferenceInferenceRule implements InferenceRule {
                 iterator.remove();
             }
         }
+        return columnValidator;
     }
 
     @SuppressWarnings("DuplicatedCode")
-    private Column<?> createColumn(Column<String> sourceColumn, ColumnType columnType) {
+    private Column<?> createColumn(Column<String> sourceColumn, ColumnType columnType, ColumnTypeValidator columnTypeValidator) {
         if (columnType.name().equals(IntegerType.TYPE_NAME)) {
-            Column<Integer> newColumn = new GenericColumn<>(sourceColumn.getName(), columnType);
-            sourceColumn.forEach(entry -> newColumn.add(entry.getKey(), Integer.valueOf(entry.getValue())));
+            IntColumn newColumn = new IntColumn(sourceColumn.getName(), this.configuration.storage());
+            sourceColumn.forEach(entry -> newColumn.addInt(entry.getKey(), columnTypeValidator.intValue(entry.getKey())));
             return newColumn;
         }
         if (columnType.name().equals(DoubleType.TYPE_NAME)) {
-            Column<Double> newColumn = new GenericColumn<>(sourceColumn.getName(), columnType);
-            sourceColumn.forEach(entry -> newColumn.add(entry.getKey(), Double.valueOf(entry.getValue())));
+            DoubleColumn newColumn = new DoubleColumn(sourceColumn.getName(), this.configuration.storage());
+            sourceColumn.forEach(entry -> newColumn.addDouble(entry.getKey(), columnTypeValidator.doubleValue(entry.getKey())));
             return newColumn;
         }
         if (columnType.name().equals(StringType.TYPE_NAME)) {
             StringType stringType = (StringType) columnType;
-            stringType.setMaxLength(sourceColumn.stream()
-                    .map(entry -> entry.getValue().length())
-                    .max(Integer::compare)
-                    .orElse(0));
+            stringType.setMaxLength(sourceColumn.statistics().maxLength());
         }
         sourceColumn.setType(columnType);
         return sourceColumn;
     }
 
-    private int countReference(Column<?> referencingColumn, Column<?> referencedColumn) {
-        ColumnValidator columnValidator = ((MultiValueReferenceValidator.MultiValueReferenceValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(INFERENCE_RULE_NAME))
-                .referencingColumn(referencingColumn)
-                .referencedColumn(referencedColumn)
-                .build();
-        return Math.toIntExact(referencingColumn.stream()
-                .filter(entry -> columnValidator.isValid(entry.getKey()))
-                .count());
-    }
-
     private Optional<String> determineCandidate(Column<?> referencingColumn, Map<String, Integer> candidatesCount) {
         return candidatesCount.entrySet().stream()
                 .filter(entry -> (double) entry.getValue() / referencingColumn.size() >= this.configuration.multiValueReferenceThreshold())
@@ -9,21 +9,35 @@ import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisBuilderFactory;
 import io.github.dtolmachev1.inference.analysis.ReferenceConstraintAnalysis;
-import io.github.dtolmachev1.inference.validator.ReferenceConstraintValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidatorBuilderFactory;
+import io.github.dtolmachev1.inference.profile.ColumnProfiler;
+import io.github.dtolmachev1.inference.profile.DecisionConfidence;
+import io.github.dtolmachev1.inference.profile.ReferenceCandidatePruner;
+import io.github.dtolmachev1.inference.profile.ReferenceCounter;
+import io.github.dtolmachev1.inference.profile.ReferenceCounterFactory;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ReferenceConstraintInferenceRule implements InferenceRule {
     public static final String INFERENCE_RULE_NAME = "reference-constraint";
+    private static final Logger LOGGER = Logger.getLogger(ReferenceConstraintInferenceRule.class.getName());
     private final Configuration configuration;
+    private final ColumnProfiler columnProfiler;
+    private final ReferenceCounter referenceCounter;
+    private final ReferenceCandidatePruner referenceCandidatePruner;
 
     private ReferenceConstraintInferenceRule() {
         this.configuration = XmlConfiguration.newInstance();
+        this.columnProfiler = ColumnProfiler.newInstance();
+        this.referenceCounter = ReferenceCounterFactory.getReferenceCounter(this.configuration.referenceCounter());
+        this.referenceCandidatePruner = ReferenceCandidatePruner.newInstance();
     }
 
     public static ReferenceConstraintInferenceRule newInstance() {
@@ -47,40 +61,63 @@ public class ReferenceConstraintInferenceRule implements InferenceRule {
                 .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().columnWithUniqueConstraint()))
                 .filter(entry -> entry.getValue().isPresent())
                 .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+        Map<String, Column<?>> referencedColumns = columnsWithUniqueConstraint.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> this.columnProfiler.referencedColumn(database.get(entry.getKey()), entry.getValue())));
+        Map<Column<?>, List<String>> referencingCandidates = new IdentityHashMap<>();
+        int candidatePairCount = 0;
+        int prunedPairCount = 0;
+        for (Map.Entry<String, Table> tableEntry : database) {
+            for (Column<?> referencingColumn : referencingColumns(tableEntry.getValue(), columnsWithUniqueConstraint).toList()) {
+                Map<String, Column<?>> candidates = referencedColumns.entrySet().stream()
+                        .filter(entry -> isCandidate(tableEntry.getKey(), referencingColumn, entry))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                List<String> survivingCandidates = this.configuration.referencePruning() ? this.referenceCandidatePruner.prune(referencingColumn, candidates) : new ArrayList<>(candidates.keySet());
+                candidatePairCount += candidates.size();
+                prunedPairCount += candidates.size() - survivingCandidates.size();
+                if (!survivingCandidates.isEmpty()) {
+                    referencingCandidates.put(referencingColumn, survivingCandidates);
+                }
+            }
+        }
+        int candidatePairs = candidatePairCount;
+        int prunedPairs = prunedPairCount;
+        LOGGER.info(() -> "Pruned " + prunedPairs + " of " + candidatePairs + " reference candidate pairs");
+        Map<Column<?>, Map<String, Integer>> referenceCounts = this.referenceCounter.countReferences(referencingCandidates, referencedColumns);
         return database.stream()
-                .map(entry -> determineReferencingTable(entry.getValue(), columnsWithUniqueConstraint, referenceConstraintAnalysisBuilder))
+                .map(entry -> determineReferencingTable(entry.getValue(), columnsWithUniqueConstraint, referenceCounts, referenceConstraintAnalysisBuilder))
                 .reduce(0, Integer::sum);
     }
 
-    private int determineReferencingTable(Table referencingTable, Map<String, Column<?>> columnsWithUniqueConstraint, ReferenceConstraintAnalysis.ReferenceConstraintAnalysisBuilder referenceConstraintAnalysisBuilder) {
-        return Math.toIntExact(referencingTable.stream()
+    private Stream<Column<?>> referencingColumns(Table referencingTable, Map<String, Column<?>> columnsWithUniqueConstraint) {
+        return referencingTable.stream()
                 .filter(entry -> (!entry.getValue().getType().name().equals(StringType.TYPE_NAME) || ((StringType) entry.getValue().getType()).getMaxLength() < this.configuration.multiValueReferenceLength()) && Optional.ofNullable(columnsWithUniqueConstraint.get(referencingTable.getName())).map(column -> !column.getName().equals(entry.getKey())).orElse(true))
-                .map(entry -> determineReferencingColumn(referencingTable.getName(), entry.getValue(), columnsWithUniqueConstraint, referenceConstraintAnalysisBuilder))
+                .map(Map.Entry::getValue);
+    }
+
+    private int determineReferencingTable(Table referencingTable, Map<String, Column<?>> columnsWithUniqueConstraint, Map<Column<?>, Map<String, Integer>> referenceCounts, ReferenceConstraintAnalysis.ReferenceConstraintAnalysisBuilder referenceConstraintAnalysisBuilder) {
+        return Math.toIntExact(referencingTable.stream()
+                .filter(entry -> referenceCounts.containsKey(entry.getValue()))
+                .map(entry -> determineReferencingColumn(referencingTable, entry.getValue(), columnsWithUniqueConstraint, referenceCounts.get(entry.getValue()), referenceConstraintAnalysisBuilder))
                 .filter(value -> value)
                 .count());
     }
 
     @SuppressWarnings("DuplicatedCode")
-    private boolean determineReferencingColumn(String referencingTableName, Column<?> referencingColumn, Map<String, Column<?>> columnsWithUniqueConstraint, ReferenceConstraintAnalysis.ReferenceConstraintAnalysisBuilder referenceConstraintAnalysisBuilder) {
-        Map<String, Integer> referenceCount = columnsWithUniqueConstraint.entrySet().stream()
-                .filter(entry -> !referencingTableName.equals(entry.getKey()) && referencingColumn.getType().name().equals(entry.getValue().getType().name()))
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> countReference(referencingColumn, entry.getValue())));
+    private boolean determineReferencingColumn(Table referencingTable, Column<?> referencingColumn, Map<String, Column<?>> columnsWithUniqueConstraint, Map<String, Integer> referenceCount, ReferenceConstraintAnalysis.ReferenceConstraintAnalysisBuilder referenceConstraintAnalysisBuilder) {
+        String referencingTableName = referencingTable.getName();
         Optional<String> referenceCandidate = determineCandidate(referencingColumn, referenceCount);
         if (referenceCandidate.isPresent()) {
             referenceConstraintAnalysisBuilder.referenceConstraint(referencingTableName, referencingColumn.getName(), referenceCandidate.get(), columnsWithUniqueConstraint.get(referenceCandidate.get()).getName());
+            if (referencingTable.isSampled()) {
+                referenceConstraintAnalysisBuilder.confidence(referencingTableName, referencingColumn.getName(), DecisionConfidence.of((double) referenceCount.get(referenceCandidate.get()) / referencingColumn.size(), this.configuration.referenceThreshold(), referencingColumn.size()));
+            }
             return true;
         }
         return false;
     }
 
-    private int countReference(Column<?> referencingColumn, Column<?> referencedColumn) {
-        ColumnValidator columnValidator = ((ReferenceConstraintValidator.ReferenceConstraintValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(INFERENCE_RULE_NAME))
-                .referencingColumn(referencingColumn)
-                .referencedColumn(referencedColumn)
-                .build();
-        return Math.toIntExact(referencingColumn.stream()
-                .filter(entry -> columnValidator.isValid(entry.getKey()))
-                .count());
+    private boolean isCandidate(String referencingTableName, Column<?> referencingColumn, Map.Entry<String, Column<?>> candidate) {
+        return !referencingTableName.equals(candidate.getKey()) && referencingColumn.getType().name().equals(candidate.getValue().getType().name());
     }
 
     private Optional<String> determineCandidate(Column<?> referencingColumn, Map<String, Integer> candidatesCount) {
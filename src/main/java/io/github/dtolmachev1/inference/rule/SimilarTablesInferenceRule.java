@@ -7,21 +7,29 @@ import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisBuilderFactory;
 import io.github.dtolmachev1.inference.analysis.SimilarTablesAnalysis;
+import io.github.dtolmachev1.inference.profile.MinHashIndex;
 import io.github.dtolmachev1.inference.validator.SimilarTablesValidator;
 import io.github.dtolmachev1.inference.validator.TableValidator;
 import io.github.dtolmachev1.inference.validator.TableValidatorBuilderFactory;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 public class SimilarTablesInferenceRule implements InferenceRule {
     public static final String INFERENCE_RULE_NAME = "similar-tables";
+    public static final String GREEDY_GROUPING = "greedy";
+    public static final String LSH_GROUPING = "lsh";
     private final Configuration configuration;
 
     private SimilarTablesInferenceRule() {
@@ -49,6 +57,9 @@ public class SimilarTablesInferenceRule implements InferenceRule {
 
     private int determineSimilarTables(Database database, SimilarTablesAnalysis.SimilarTablesAnalysisBuilder similarTablesAnalysisBuilder) {
         Map<String, Table> unresolvedTables = database.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (this.configuration.similarTablesGrouping().equals(LSH_GROUPING)) {
+            return determineSimilarTablesInBuckets(new LinkedHashMap<>(unresolvedTables), similarTablesAnalysisBuilder);
+        }
         int similarTablesCount = 0;
         while (!unresolvedTables.isEmpty()) {
             similarTablesCount += determineSimilarTable(unresolvedTables, similarTablesAnalysisBuilder);
@@ -76,6 +87,40 @@ public class SimilarTablesInferenceRule implements InferenceRule {
                 candidateTables.pop();
             }
         }
+        return addSimilarTables(candidateTableNames, similarTablesAnalysisBuilder);
+    }
+
+    private int determineSimilarTablesInBuckets(Map<String, Table> unresolvedTables, SimilarTablesAnalysis.SimilarTablesAnalysisBuilder similarTablesAnalysisBuilder) {
+        Map<String, Integer> tableOrder = new HashMap<>();
+        MinHashIndex minHashIndex = new MinHashIndex(this.configuration.tableSimilarityThreshold());
+        unresolvedTables.forEach((tableName, table) -> {
+            tableOrder.put(tableName, tableOrder.size());
+            minHashIndex.add(tableName, table.stream().map(Map.Entry::getKey).toList());
+        });
+        int similarTablesCount = 0;
+        while (!unresolvedTables.isEmpty()) {
+            String currentTableName = unresolvedTables.keySet().iterator().next();
+            SortedSet<String> candidateTableNames = new TreeSet<>();
+            Set<String> similarColumns = columnNames(unresolvedTables.remove(currentTableName));
+            candidateTableNames.add(currentTableName);
+            List<String> bucketTableNames = minHashIndex.candidates(currentTableName).stream()
+                    .filter(unresolvedTables::containsKey)
+                    .sorted(Comparator.comparing(tableOrder::get))
+                    .toList();
+            for (String bucketTableName : bucketTableNames) {
+                Table bucketTable = unresolvedTables.get(bucketTableName);
+                if (isSimilarColumns(similarColumns, bucketTable)) {
+                    candidateTableNames.add(bucketTableName);
+                    unresolvedTables.remove(bucketTableName);
+                    similarColumns.retainAll(columnNames(bucketTable));
+                }
+            }
+            similarTablesCount += addSimilarTables(candidateTableNames, similarTablesAnalysisBuilder);
+        }
+        return similarTablesCount;
+    }
+
+    private int addSimilarTables(SortedSet<String> candidateTableNames, SimilarTablesAnalysis.SimilarTablesAnalysisBuilder similarTablesAnalysisBuilder) {
         if (candidateTableNames.size() > 1) {
             similarTablesAnalysisBuilder.similarTables(candidateTableNames.stream().toList(), candidateTableNames.first());
             return candidateTableNames.size();
@@ -83,6 +128,19 @@ public class SimilarTablesInferenceRule implements InferenceRule {
         return 0;
     }
 
+    private boolean isSimilarColumns(Set<String> similarColumns, Table table) {
+        int columnCount = Math.toIntExact(table.stream()
+                .filter(entry -> similarColumns.contains(entry.getKey()))
+                .count());
+        return (double) columnCount / table.size() >= this.configuration.tableSimilarityThreshold();
+    }
+
+    private Set<String> columnNames(Table table) {
+        return table.stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
     private boolean isSimilarTables(List<Table> similarCandidates) {
         TableValidator tableValidator = ((SimilarTablesValidator.SimilarTablesValidatorBuilder) TableValidatorBuilderFactory.getTableValidatorBuilder(INFERENCE_RULE_NAME))
                 .similarTables(similarCandidates)
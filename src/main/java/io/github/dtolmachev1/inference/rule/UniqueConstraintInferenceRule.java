@@ -11,9 +11,7 @@ import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.inference.analysis.Analysis;
 import io.github.dtolmachev1.inference.analysis.AnalysisBuilderFactory;
 import io.github.dtolmachev1.inference.analysis.UniqueConstraintAnalysis;
-import io.github.dtolmachev1.inference.validator.UniqueConstraintValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidator;
-import io.github.dtolmachev1.inference.validator.ColumnValidatorBuilderFactory;
+import io.github.dtolmachev1.inference.profile.ColumnProfiler;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,9 +22,11 @@ import java.util.stream.Collectors;
 public class UniqueConstraintInferenceRule implements InferenceRule {
     public static final String INFERENCE_RULE_NAME = "unique-constraint";
     private final Configuration configuration;
+    private final ColumnProfiler columnProfiler;
 
     private UniqueConstraintInferenceRule() {
         this.configuration = XmlConfiguration.newInstance();
+        this.columnProfiler = ColumnProfiler.newInstance();
     }
 
     public static UniqueConstraintInferenceRule newInstance() {
@@ -77,12 +77,7 @@ public class UniqueConstraintInferenceRule implements InferenceRule {
     }
 
     private int countUnique(Column<?> column) {
-        ColumnValidator columnValidator = ((UniqueConstraintValidator.UniqueConstraintValidatorBuilder) ColumnValidatorBuilderFactory.getColumnValidatorBuilder(INFERENCE_RULE_NAME))
-                .column(column)
-                .build();
-        return Math.toIntExact(column.stream()
-                .filter(entry -> columnValidator.isValid(entry.getKey()))
-                .count());
+        return this.columnProfiler.profile(column).uniqueCount();
     }
 
     private Optional<String> determineCandidate(Table table, Map<String, Integer> candidatesCount) {
@@ -4,17 +4,29 @@ import io.github.dtolmachev1.data.column.Column;
 import io.github.dtolmachev1.data.column.ColumnType;
 import io.github.dtolmachev1.data.column.DoubleType;
 import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.NumberParser;
 import io.github.dtolmachev1.data.column.StringType;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
 public class ColumnTypeValidator implements ColumnValidator {
     public static final String VALIDATOR_NAME = "column-type";
     private Column<String> column;
     private ColumnType columnType;
+    private final NumberParser numberParser;
+    private final BitSet parsedIds;
+    private long[] parsedValues;
 
     private ColumnTypeValidator() {
+        this.numberParser = new NumberParser();
+        this.parsedIds = new BitSet();
+        this.parsedValues = new long[0];
     }
 
     public ColumnTypeValidator(Column<String> column, ColumnType columnType) {
+        this();
         this.column = column;
         this.columnType = columnType;
     }
@@ -25,23 +37,49 @@ public class ColumnTypeValidator implements ColumnValidator {
 
     @Override
     public boolean isValid(Integer id) {
-        try {
-            switch (this.columnType.name()) {
-                case StringType.TYPE_NAME: return true;
-                case IntegerType.TYPE_NAME: Integer.valueOf(column.get(id)); break;
-                case DoubleType.TYPE_NAME: Double.valueOf(column.get(id)); break;
-                default: return false;
-            }
-        } catch (NumberFormatException e) {
-            return false;
+        return switch (this.columnType.name()) {
+            case StringType.TYPE_NAME -> true;
+            case IntegerType.TYPE_NAME, DoubleType.TYPE_NAME -> this.parsedIds.get(id) || parse(id);
+            default -> false;
+        };
+    }
+
+    public int intValue(Integer id) {
+        if (!isValid(id)) {
+            throw new RuntimeException("Unable to parse integer value in the column");
         }
-        return true;
+        return (int) this.parsedValues[id];
+    }
+
+    public double doubleValue(Integer id) {
+        if (!isValid(id)) {
+            throw new RuntimeException("Unable to parse double value in the column");
+        }
+        return Double.longBitsToDouble(this.parsedValues[id]);
     }
 
     public static ColumnTypeValidatorBuilder builder() {
         return new ColumnTypeValidatorBuilder();
     }
 
+    private boolean parse(int id) {
+        String value = this.column.get(id);
+        if (Objects.isNull(value)) {
+            return false;
+        }
+        int result = this.numberParser.parse(value);
+        boolean isInteger = this.columnType.name().equals(IntegerType.TYPE_NAME);
+        if (isInteger ? !NumberParser.isInteger(result) : !NumberParser.isDouble(result)) {
+            return false;
+        }
+        if (id >= this.parsedValues.length) {
+            this.parsedValues = Arrays.copyOf(this.parsedValues, Math.max(id + 1, this.parsedValues.length << 1));
+        }
+        this.parsedValues[id] = isInteger ? this.numberParser.longValue() : Double.doubleToRawLongBits(this.numberParser.doubleValue());
+        this.parsedIds.set(id);
+        return true;
+    }
+
     public static class ColumnTypeValidatorBuilder implements ColumnValidatorBuilder {
         private final ColumnTypeValidator columnTypeValidator;
 
@@ -51,11 +89,13 @@ public class ColumnTypeValidator implements ColumnValidator {
 
         public ColumnTypeValidatorBuilder column(Column<String> column) {
             this.columnTypeValidator.column = column;
+            this.columnTypeValidator.parsedIds.clear();
             return this;
         }
 
         public ColumnTypeValidatorBuilder columnType(ColumnType columnType) {
             this.columnTypeValidator.columnType = columnType;
+            this.columnTypeValidator.parsedIds.clear();
             return this;
         }
 
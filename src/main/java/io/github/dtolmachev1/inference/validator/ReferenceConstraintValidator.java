@@ -1,15 +1,20 @@
 package io.github.dtolmachev1.inference.validator;
 
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public class ReferenceConstraintValidator implements ColumnValidator {
     public static final String VALIDATOR_NAME = "reference-constraint";
     private Column<?> referencingColumn;
     private Set<Object> referencedValues;
+    private DictionaryColumn referencedDictionary;
+    private boolean[] referencedCodes;
+    private boolean[] referencingCodes;
 
     protected ReferenceConstraintValidator() {
     }
@@ -26,7 +31,16 @@ public class ReferenceConstraintValidator implements ColumnValidator {
 
     @Override
     public boolean isValid(Integer id) {
-        return this.referencedValues.contains(this.referencingColumn.get(id));
+        if (Objects.isNull(this.referencedDictionary)) {
+            return this.referencedValues.contains(this.referencingColumn.get(id));
+        }
+        if (this.referencingColumn instanceof DictionaryColumn dictionaryColumn) {
+            if (Objects.isNull(this.referencingCodes)) {
+                initializeReferencingCodes(dictionaryColumn);
+            }
+            return this.referencingCodes[dictionaryColumn.getCode(id)];
+        }
+        return this.referencingColumn.get(id) instanceof String value && isReferenced(value);
     }
 
     public static ReferenceConstraintValidatorBuilder builder() {
@@ -34,9 +48,33 @@ public class ReferenceConstraintValidator implements ColumnValidator {
     }
 
     private void initializeReferencedValues(Column<?> referencedColumn) {
+        this.referencingCodes = null;
+        if (referencedColumn instanceof DictionaryColumn dictionaryColumn) {
+            this.referencedDictionary = dictionaryColumn;
+            this.referencedCodes = new boolean[dictionaryColumn.cardinality()];
+            int[] codesCount = dictionaryColumn.countCodes();
+            for (int code = 0; code < codesCount.length; code++) {
+                this.referencedCodes[code] = codesCount[code] > 0;
+            }
+            return;
+        }
+        this.referencedDictionary = null;
+        this.referencedCodes = null;
         this.referencedValues = referencedColumn.stream().map(Map.Entry::getValue).collect(HashSet::new, HashSet::add, HashSet::addAll);
     }
 
+    private void initializeReferencingCodes(DictionaryColumn referencingColumn) {
+        this.referencingCodes = new boolean[referencingColumn.cardinality()];
+        for (int code = 0; code < this.referencingCodes.length; code++) {
+            this.referencingCodes[code] = isReferenced(referencingColumn.decode(code));
+        }
+    }
+
+    private boolean isReferenced(String value) {
+        int code = this.referencedDictionary.encode(value);
+        return code >= 0 && this.referencedCodes[code];
+    }
+
     public static class ReferenceConstraintValidatorBuilder implements ColumnValidatorBuilder {
         private final ReferenceConstraintValidator referenceConstraintValidator;
 
@@ -46,6 +84,7 @@ public class ReferenceConstraintValidator implements ColumnValidator {
 
         public ReferenceConstraintValidatorBuilder referencingColumn(Column<?> referencingColumn) {
             this.referenceConstraintValidator.referencingColumn = referencingColumn;
+            this.referenceConstraintValidator.referencingCodes = null;
             return this;
         }
 
@@ -1,7 +1,9 @@
 package io.github.dtolmachev1.inference.validator;
 
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Table;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,12 +34,23 @@ public class SimilarTablesValidator implements TableValidator {
     }
 
     private void initializeSimilarColumns(List<Table> similarTables) {
-        if (!similarTables.isEmpty()) {
-            similarTables.get(0).forEach(entry -> this.similarColumns.add(entry.getKey()));
-        }
-        similarTables.stream()
-                .skip(1)
+        retainSimilarColumns(similarTables.stream()
+                .map(table -> table.stream().map(Map.Entry::getKey).collect(Collectors.toSet()))
+                .toList());
+    }
+
+    private void initializeSimilarStreamColumns(List<StreamTable> similarTables) {
+        retainSimilarColumns(similarTables.stream()
                 .map(table -> table.stream().map(Map.Entry::getKey).collect(Collectors.toSet()))
+                .toList());
+    }
+
+    private void retainSimilarColumns(Collection<Set<String>> similarColumns) {
+        similarColumns.stream()
+                .findFirst()
+                .ifPresent(this.similarColumns::addAll);
+        similarColumns.stream()
+                .skip(1)
                 .forEach(this.similarColumns::retainAll);
     }
 
@@ -57,6 +70,11 @@ public class SimilarTablesValidator implements TableValidator {
             return this;
         }
 
+        public SimilarTablesValidatorBuilder similarStreamTables(List<StreamTable> similarTables) {
+            this.similarTablesValidator.initializeSimilarStreamColumns(similarTables);
+            return this;
+        }
+
         @Override
         public SimilarTablesValidator build() {
             return this.similarTablesValidator;
@@ -1,6 +1,7 @@
 package io.github.dtolmachev1.inference.validator;
 
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -10,6 +11,7 @@ public class UniqueConstraintValidator implements ColumnValidator {
     public static final String VALIDATOR_NAME = "unique-constraint";
     private Column<?> column;
     private Map<Object, Integer> valuesCount;
+    private int[] codesCount;
 
     private UniqueConstraintValidator() {
     }
@@ -26,6 +28,9 @@ public class UniqueConstraintValidator implements ColumnValidator {
 
     @Override
     public boolean isValid(Integer id) {
+        if (this.column instanceof DictionaryColumn dictionaryColumn) {
+            return this.codesCount[dictionaryColumn.getCode(id)] == 1;
+        }
         return this.valuesCount.get(this.column.get(id)).equals(1);
     }
 
@@ -34,6 +39,10 @@ public class UniqueConstraintValidator implements ColumnValidator {
     }
 
     private void countValues() {
+        if (this.column instanceof DictionaryColumn dictionaryColumn) {
+            this.codesCount = dictionaryColumn.countCodes();
+            return;
+        }
         this.valuesCount = this.column.stream()
                 .map(Map.Entry::getValue)
                 .collect(Collectors.toMap(value -> value, value -> 1, Integer::sum, HashMap::new));
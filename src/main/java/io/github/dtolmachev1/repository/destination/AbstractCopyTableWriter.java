@@ -0,0 +1,85 @@
+package io.github.dtolmachev1.repository.destination;
+
+import io.github.dtolmachev1.configuration.XmlConfiguration;
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.RowSet;
+import io.github.dtolmachev1.data.table.Table;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public abstract class AbstractCopyTableWriter implements TableWriter {
+    private final TableWriter fallbackWriter;
+    private final int pipelineDepth;
+    private final ExecutorService consumerExecutor;
+
+    protected AbstractCopyTableWriter() {
+        this.fallbackWriter = new InsertTableWriter();
+        this.pipelineDepth = XmlConfiguration.newInstance().copyPipelineDepth();
+        this.consumerExecutor = this.pipelineDepth > 0 ? Executors.newCachedThreadPool(AbstractCopyTableWriter::newConsumerThread) : null;
+    }
+
+    @Override
+    public void write(Connection connection, Table table, int fromId, int toId) throws SQLException {
+        if (table.isEmpty() || !connection.isWrapperFor(PGConnection.class)) {
+            this.fallbackWriter.write(connection, table, fromId, toId);
+            return;
+        }
+        List<Column<?>> columns = table.stream()
+                .map(Map.Entry::getValue)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(buildCopyStatement(table));
+        CopyBuffer buffer = this.pipelineDepth > 0 ? new PipelinedCopyBuffer(copyIn, this.pipelineDepth, this.consumerExecutor) : new CopyBuffer(copyIn);
+        try {
+            writeHeader(buffer);
+            RowSet rows = columns.get(0).rows();
+            for (int id = rows.next(fromId); id >= 0 && id < toId; id = rows.next(id + 1)) {
+                writeRow(buffer, id, columns);
+            }
+            writeTrailer(buffer);
+            buffer.end();
+        } finally {
+            buffer.cancel();
+        }
+    }
+
+    protected abstract String format();
+
+    protected abstract void writeHeader(CopyBuffer buffer) throws SQLException;
+
+    protected abstract void writeRow(CopyBuffer buffer, int id, List<Column<?>> columns) throws SQLException;
+
+    protected abstract void writeTrailer(CopyBuffer buffer) throws SQLException;
+
+    private static Thread newConsumerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private String buildCopyStatement(Table table) {
+        StringBuilder statementBuilder = new StringBuilder()
+                .append("COPY ")
+                .append(table.getName())
+                .append(" (");
+        boolean anyFound = false;
+        for (Map.Entry<String, Column<?>> entry : table) {
+            if (anyFound) {
+                statementBuilder.append(", ");
+            }
+            anyFound = true;
+            statementBuilder.append(entry.getKey());
+        }
+        statementBuilder.append(") FROM STDIN (FORMAT ")
+                .append(format())
+                .append(")");
+        return statementBuilder.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.dtolmachev1.repository.destination;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.StringType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+public class BinaryCopyTableWriter extends AbstractCopyTableWriter {
+    public static final String WRITER_NAME = "binary-copy";
+    private static final String FORMAT = "binary";
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final int FLAGS = 0;
+    private static final int HEADER_EXTENSION_LENGTH = 0;
+    private static final int TRAILER = -1;
+    private static final int NULL_LENGTH = -1;
+    private static final int INTEGER_LENGTH = Integer.BYTES;
+    private static final int DOUBLE_LENGTH = Double.BYTES;
+
+    @Override
+    public String name() {
+        return WRITER_NAME;
+    }
+
+    @Override
+    protected String format() {
+        return FORMAT;
+    }
+
+    @Override
+    protected void writeHeader(CopyBuffer buffer) throws SQLException {
+        buffer.write(SIGNATURE);
+        buffer.writeInt(FLAGS);
+        buffer.writeInt(HEADER_EXTENSION_LENGTH);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeRow(CopyBuffer buffer, int id, List<Column<?>> columns) throws SQLException {
+        buffer.writeShort(columns.size());
+        for (Column<?> column : columns) {
+            switch (column.getType().name()) {
+                case StringType.TYPE_NAME -> writeString(buffer, ((Column<String>) column).get(id));
+                case IntegerType.TYPE_NAME -> writeInteger(buffer, column, id);
+                case DoubleType.TYPE_NAME -> writeDouble(buffer, column, id);
+            }
+        }
+    }
+
+    @Override
+    protected void writeTrailer(CopyBuffer buffer) throws SQLException {
+        buffer.writeShort(TRAILER);
+    }
+
+    private void writeInteger(CopyBuffer buffer, Column<?> column, int id) throws SQLException {
+        if (column instanceof IntColumn intColumn) {
+            buffer.writeInt(INTEGER_LENGTH);
+            buffer.writeInt(intColumn.getInt(id));
+            return;
+        }
+        Object value = column.get(id);
+        if (Objects.isNull(value)) {
+            buffer.writeInt(NULL_LENGTH);
+            return;
+        }
+        buffer.writeInt(INTEGER_LENGTH);
+        buffer.writeInt(value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString()));
+    }
+
+    private void writeDouble(CopyBuffer buffer, Column<?> column, int id) throws SQLException {
+        if (column instanceof DoubleColumn doubleColumn) {
+            buffer.writeInt(DOUBLE_LENGTH);
+            buffer.writeLong(Double.doubleToLongBits(doubleColumn.getDouble(id)));
+            return;
+        }
+        Object value = column.get(id);
+        if (Objects.isNull(value)) {
+            buffer.writeInt(NULL_LENGTH);
+            return;
+        }
+        buffer.writeInt(DOUBLE_LENGTH);
+        buffer.writeLong(Double.doubleToLongBits(value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString())));
+    }
+
+    private void writeString(CopyBuffer buffer, String value) throws SQLException {
+        if (Objects.isNull(value)) {
+            buffer.writeInt(NULL_LENGTH);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                buffer.writeInt(encoded.length);
+                buffer.write(encoded);
+                return;
+            }
+        }
+        buffer.writeInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.write(value.charAt(i));
+        }
+    }
+}
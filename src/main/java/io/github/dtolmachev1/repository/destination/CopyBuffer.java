@@ -0,0 +1,81 @@
+package io.github.dtolmachev1.repository.destination;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+
+public class CopyBuffer {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final CopyIn copyIn;
+    private byte[] buffer;
+    private int position;
+
+    public CopyBuffer(CopyIn copyIn) {
+        this.copyIn = copyIn;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.position = 0;
+    }
+
+    protected static byte[] newBuffer() {
+        return new byte[BUFFER_SIZE];
+    }
+
+    public void write(int value) throws SQLException {
+        if (this.position == this.buffer.length) {
+            flush();
+        }
+        this.buffer[this.position] = (byte) value;
+        this.position += 1;
+    }
+
+    public void write(byte[] values) throws SQLException {
+        int offset = 0;
+        while (offset < values.length) {
+            if (this.position == this.buffer.length) {
+                flush();
+            }
+            int length = Math.min(values.length - offset, this.buffer.length - this.position);
+            System.arraycopy(values, offset, this.buffer, this.position, length);
+            this.position += length;
+            offset += length;
+        }
+    }
+
+    public void writeShort(int value) throws SQLException {
+        write(value >>> 8);
+        write(value);
+    }
+
+    public void writeInt(int value) throws SQLException {
+        writeShort(value >>> 16);
+        writeShort(value);
+    }
+
+    public void writeLong(long value) throws SQLException {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    public void flush() throws SQLException {
+        if (this.position > 0) {
+            this.buffer = send(this.buffer, this.position);
+            this.position = 0;
+        }
+    }
+
+    protected byte[] send(byte[] buffer, int length) throws SQLException {
+        this.copyIn.writeToCopy(buffer, 0, length);
+        return buffer;
+    }
+
+    public long end() throws SQLException {
+        flush();
+        return this.copyIn.endCopy();
+    }
+
+    public void cancel() throws SQLException {
+        if (this.copyIn.isActive()) {
+            this.copyIn.cancelCopy();
+        }
+    }
+}
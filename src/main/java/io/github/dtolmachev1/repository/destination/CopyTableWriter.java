@@ -0,0 +1,95 @@
+package io.github.dtolmachev1.repository.destination;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.StringType;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+
+public class CopyTableWriter extends AbstractCopyTableWriter {
+    public static final String WRITER_NAME = "copy";
+    private static final String FORMAT = "text";
+    private static final int DELIMITER = '\t';
+    private static final int ROW_TERMINATOR = '\n';
+    private static final int ESCAPE = '\\';
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+
+    @Override
+    public String name() {
+        return WRITER_NAME;
+    }
+
+    @Override
+    protected String format() {
+        return FORMAT;
+    }
+
+    @Override
+    protected void writeHeader(CopyBuffer buffer) {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeRow(CopyBuffer buffer, int id, List<Column<?>> columns) throws SQLException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                buffer.write(DELIMITER);
+            }
+            switch (columns.get(i).getType().name()) {
+                case StringType.TYPE_NAME -> writeText(buffer, ((Column<String>) columns.get(i)).get(id));
+                case IntegerType.TYPE_NAME -> writeText(buffer, columns.get(i) instanceof IntColumn intColumn ? Integer.toString(intColumn.getInt(id)) : Objects.toString(columns.get(i).get(id), null));
+                case DoubleType.TYPE_NAME -> writeText(buffer, columns.get(i) instanceof DoubleColumn doubleColumn ? Double.toString(doubleColumn.getDouble(id)) : Objects.toString(columns.get(i).get(id), null));
+            }
+        }
+        buffer.write(ROW_TERMINATOR);
+    }
+
+    @Override
+    protected void writeTrailer(CopyBuffer buffer) {
+    }
+
+    private void writeText(CopyBuffer buffer, String value) throws SQLException {
+        if (Objects.isNull(value)) {
+            buffer.write(NULL_VALUE);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                for (byte encoded : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+                    writeEscaped(buffer, encoded);
+                }
+                return;
+            }
+            writeEscaped(buffer, ch);
+        }
+    }
+
+    private void writeEscaped(CopyBuffer buffer, int value) throws SQLException {
+        switch (value) {
+            case ESCAPE -> {
+                buffer.write(ESCAPE);
+                buffer.write(ESCAPE);
+            }
+            case '\t' -> {
+                buffer.write(ESCAPE);
+                buffer.write('t');
+            }
+            case '\n' -> {
+                buffer.write(ESCAPE);
+                buffer.write('n');
+            }
+            case '\r' -> {
+                buffer.write(ESCAPE);
+                buffer.write('r');
+            }
+            default -> buffer.write(value);
+        }
+    }
+}
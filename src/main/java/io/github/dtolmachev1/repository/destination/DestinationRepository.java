@@ -1,7 +1,10 @@
 package io.github.dtolmachev1.repository.destination;
 
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
 
 public interface DestinationRepository {
-    void save(Database database);
+    void save(Database database, boolean resume);
+
+    void save(StreamDatabase database, boolean resume);
 }
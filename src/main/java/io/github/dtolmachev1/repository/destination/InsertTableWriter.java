@@ -0,0 +1,91 @@
+package io.github.dtolmachev1.repository.destination;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.RowSet;
+import io.github.dtolmachev1.data.column.StringType;
+import io.github.dtolmachev1.data.table.Table;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class InsertTableWriter implements TableWriter {
+    public static final String WRITER_NAME = "insert";
+
+    @Override
+    public String name() {
+        return WRITER_NAME;
+    }
+
+    @Override
+    public void write(Connection connection, Table table, int fromId, int toId) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(buildInsertStatement(table))) {
+            List<Column<?>> columns = table.stream()
+                    .map(Map.Entry::getValue)
+                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+            if (!columns.isEmpty()) {
+                RowSet rows = columns.get(0).rows();
+                for (int id = rows.next(fromId); id >= 0 && id < toId; id = rows.next(id + 1)) {
+                    addInsertToStatement(preparedStatement, id, columns);
+                }
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+
+    private String buildInsertStatement(Table table) {
+        StringBuilder statementBuilder = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(table.getName())
+                .append(" (");
+        boolean anyFound = false;
+        for (Map.Entry<String, Column<?>> entry : table) {
+            if (anyFound) {
+                statementBuilder.append(", ");
+            }
+            anyFound = true;
+            statementBuilder.append(entry.getKey());
+        }
+        statementBuilder.append(") VALUES (");
+        for (int i = 0; i < table.size(); i++) {
+            if (i > 0) {
+                statementBuilder.append(", ");
+            }
+            statementBuilder.append("?");
+        }
+        statementBuilder.append(")");
+        return statementBuilder.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addInsertToStatement(PreparedStatement preparedStatement, int id, List<Column<?>> columns) throws SQLException {
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).getType().name()) {
+                case StringType.TYPE_NAME -> preparedStatement.setString(i + 1, ((Column<String>) columns.get(i)).get(id));
+                case IntegerType.TYPE_NAME -> {
+                    if (columns.get(i) instanceof IntColumn intColumn) {
+                        preparedStatement.setInt(i + 1, intColumn.getInt(id));
+                    } else {
+                        preparedStatement.setObject(i + 1, columns.get(i).get(id), Types.INTEGER);
+                    }
+                }
+                case DoubleType.TYPE_NAME -> {
+                    if (columns.get(i) instanceof DoubleColumn doubleColumn) {
+                        preparedStatement.setDouble(i + 1, doubleColumn.getDouble(id));
+                    } else {
+                        preparedStatement.setObject(i + 1, columns.get(i).get(id), Types.DOUBLE);
+                    }
+                }
+            }
+        }
+        preparedStatement.addBatch();
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.dtolmachev1.repository.destination;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class LoadCheckpoint {
+    public static final String TABLE_STEP = "table";
+    public static final String UNIQUE_STEP = "unique";
+    public static final String REFERENCE_STEP = "reference";
+    public static final String CONSTRAINTS_STEP = "constraints";
+    public static final String LOGGED_STEP = "logged";
+    private static final String ROWS_ENTRY = "rows";
+    private static final Set<String> STEPS = Set.of(TABLE_STEP, UNIQUE_STEP, REFERENCE_STEP, CONSTRAINTS_STEP, LOGGED_STEP);
+    private static final String SEPARATOR = "\t";
+    private final Path path;
+    private final Map<String, Integer> committedRows;
+    private final Map<String, Set<String>> completedSteps;
+
+    private LoadCheckpoint(Path path) {
+        this.path = path;
+        this.committedRows = new HashMap<>();
+        this.completedSteps = new HashMap<>();
+    }
+
+    public static LoadCheckpoint create(Path path) {
+        try {
+            Files.write(path, new byte[0]);
+            return new LoadCheckpoint(path);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write checkpoint");
+        }
+    }
+
+    public static LoadCheckpoint load(Path path) {
+        LoadCheckpoint checkpoint = new LoadCheckpoint(path);
+        try {
+            List<String> entries = Files.readAllLines(path, StandardCharsets.UTF_8);
+            for (String entry : entries) {
+                String[] values = entry.split(SEPARATOR);
+                if (values[0].equals(ROWS_ENTRY)) {
+                    checkpoint.committedRows.put(values[1], Integer.parseInt(values[3]));
+                } else if (STEPS.contains(values[0])) {
+                    checkpoint.completedSteps.computeIfAbsent(values[0], step -> new HashSet<>()).add(values[1]);
+                } else {
+                    throw new RuntimeException("Unable to read checkpoint");
+                }
+            }
+        } catch (IOException | IndexOutOfBoundsException | NumberFormatException e) {
+            throw new RuntimeException("Unable to read checkpoint");
+        }
+        return checkpoint;
+    }
+
+    public synchronized int committedRows(String tableName) {
+        return this.committedRows.getOrDefault(tableName, 0);
+    }
+
+    public synchronized boolean isCompleted(String step, String tableName) {
+        return this.completedSteps.getOrDefault(step, Set.of()).contains(tableName);
+    }
+
+    public synchronized void commitRows(String tableName, int fromRow, int toRow) {
+        append(ROWS_ENTRY, tableName, Integer.toString(fromRow), Integer.toString(toRow));
+        this.committedRows.put(tableName, toRow);
+    }
+
+    public synchronized void complete(String step, String tableName) {
+        append(step, tableName);
+        this.completedSteps.computeIfAbsent(step, key -> new HashSet<>()).add(tableName);
+    }
+
+    private void append(String... values) {
+        try {
+            Files.writeString(this.path, String.join(SEPARATOR, values) + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write checkpoint");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.dtolmachev1.repository.destination;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class PipelinedCopyBuffer extends CopyBuffer {
+    private static final Chunk END_CHUNK = new Chunk(new byte[0], -1);
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private final CopyIn copyIn;
+    private final BlockingQueue<byte[]> freeBuffers;
+    private final BlockingQueue<Chunk> filledChunks;
+    private final Future<?> consumer;
+    private volatile Throwable failure;
+    private boolean finished;
+
+    public PipelinedCopyBuffer(CopyIn copyIn, int depth, ExecutorService executor) {
+        super(copyIn);
+        this.copyIn = copyIn;
+        this.freeBuffers = new ArrayBlockingQueue<>(depth + 1);
+        this.filledChunks = new ArrayBlockingQueue<>(depth + 2);
+        for (int i = 0; i < depth; i++) {
+            this.freeBuffers.add(newBuffer());
+        }
+        this.failure = null;
+        this.finished = false;
+        this.consumer = executor.submit(this::consume);
+    }
+
+    @Override
+    protected byte[] send(byte[] buffer, int length) throws SQLException {
+        checkFailure();
+        try {
+            this.filledChunks.put(new Chunk(buffer, length));
+            byte[] freeBuffer = this.freeBuffers.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            while (Objects.isNull(freeBuffer)) {
+                if (this.consumer.isDone()) {
+                    checkFailure();
+                    throw new SQLException("Failed while writing copy data");
+                }
+                freeBuffer = this.freeBuffers.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return freeBuffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while writing copy data");
+        }
+    }
+
+    @Override
+    public long end() throws SQLException {
+        flush();
+        finish();
+        checkFailure();
+        return this.copyIn.endCopy();
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        finish();
+        super.cancel();
+    }
+
+    private void consume() {
+        try {
+            for (Chunk chunk = this.filledChunks.take(); chunk != END_CHUNK; chunk = this.filledChunks.take()) {
+                if (Objects.isNull(this.failure)) {
+                    try {
+                        this.copyIn.writeToCopy(chunk.buffer, 0, chunk.length);
+                    } catch (Throwable e) {
+                        this.failure = e;
+                    }
+                }
+                this.freeBuffers.add(chunk.buffer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void finish() {
+        if (this.finished) {
+            return;
+        }
+        this.finished = true;
+        try {
+            this.filledChunks.put(END_CHUNK);
+            this.consumer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.consumer.cancel(true);
+            fail(new SQLException("Interrupted while writing copy data"));
+        } catch (ExecutionException e) {
+            fail(e.getCause());
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        if (Objects.isNull(this.failure)) {
+            this.failure = throwable;
+        }
+    }
+
+    private void checkFailure() throws SQLException {
+        Throwable throwable = this.failure;
+        if (throwable instanceof SQLException sqlException) {
+            throw sqlException;
+        }
+        if (Objects.nonNull(throwable)) {
+            throw new SQLException("Failed while writing copy data", throwable);
+        }
+    }
+
+    private static class Chunk {
+        private final byte[] buffer;
+        private final int length;
+
+        private Chunk(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+    }
+}
@@ -3,30 +3,68 @@ package io.github.dtolmachev1.repository.destination;
 import io.github.dtolmachev1.configuration.Configuration;
 import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
-import io.github.dtolmachev1.data.column.DoubleType;
-import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.RowSet;
 import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamTable;
 import io.github.dtolmachev1.data.table.Constraint;
 import io.github.dtolmachev1.data.table.ReferenceConstraint;
 import io.github.dtolmachev1.data.table.Table;
 import io.github.dtolmachev1.data.table.UniqueConstraint;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class PostgresqlRepository implements DestinationRepository {
     public static final String REPOSITORY_NAME = "postgres";
+    private static final Logger LOGGER = Logger.getLogger(PostgresqlRepository.class.getName());
     private final Configuration.DbmsConfiguration configuration;
+    private final int batchSize;
+    private final TableWriter tableWriter;
+    private final int rowsPerCommit;
+    private final Path checkpointFile;
+    private final boolean deferredConstraints;
+    private final boolean unloggedLoad;
+    private final boolean analyzeTables;
+    private LoadCheckpoint checkpoint;
+    private boolean resume;
 
     private PostgresqlRepository() {
         this.configuration = XmlConfiguration.newInstance().dbmsConfiguration();
+        this.batchSize = XmlConfiguration.newInstance().streamingBatchSize();
+        this.tableWriter = TableWriterFactory.getTableWriter(XmlConfiguration.newInstance().tableWriter());
+        this.rowsPerCommit = XmlConfiguration.newInstance().rowsPerCommit();
+        this.checkpointFile = Paths.get(XmlConfiguration.newInstance().checkpointFile());
+        this.deferredConstraints = XmlConfiguration.newInstance().deferredConstraints();
+        this.unloggedLoad = XmlConfiguration.newInstance().unloggedLoad();
+        this.analyzeTables = XmlConfiguration.newInstance().analyzeTables();
+        this.checkpoint = null;
+        this.resume = false;
     }
 
     public static PostgresqlRepository newInstance() {
@@ -34,49 +72,337 @@ public class PostgresqlRepository implements DestinationRepository {
     }
 
     @Override
-    public void save(Database database) {
+    public void save(Database database, boolean resume) {
+        this.checkpoint = openCheckpoint(resume);
+        this.resume = resume;
+        List<Table> tables = database.stream()
+                .map(Map.Entry::getValue)
+                .toList();
+        saveTables(database.getName(), tables, this::cellCount, this::saveTable);
+    }
+
+    @Override
+    public void save(StreamDatabase database, boolean resume) {
+        this.checkpoint = openCheckpoint(resume);
+        this.resume = resume;
+        List<Table> tables = database.schema().stream()
+                .map(Map.Entry::getValue)
+                .toList();
+        saveTables(database.getName(), tables, table -> (long) database.get(table.getName()).rowCount() * table.size(), (connection, table) -> saveTable(connection, table, database.get(table.getName())));
+    }
+
+    private void saveTables(String databaseName, List<Table> tables, ToLongFunction<Table> weight, BiConsumer<Connection, Table> tableSaver) {
         try {
             Class.forName(this.configuration.driverClassName());
-            try (Connection connection = DriverManager.getConnection(this.configuration.url() + "/" + database.getName(), this.configuration.username(), this.configuration.password())) {
-                database.forEach(entry -> saveTable(connection, entry.getValue()));
-                database.forEach(entry -> saveConstraints(connection, entry.getValue()));
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Driver class not found");
+        }
+        int poolSize = Math.max(Math.min(this.configuration.connectionPoolSize(), tables.size()), 1);
+        BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(poolSize);
+        ExecutorService executor = poolSize > 1 ? Executors.newFixedThreadPool(poolSize) : null;
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                connections.add(openConnection(databaseName));
+            }
+            if (this.resume && this.unloggedLoad) {
+                verifyUnloggedTables(connections.peek(), tables);
+            }
+            List<Table> sortedTables = tables.stream()
+                    .sorted(Comparator.comparingLong(weight).reversed())
+                    .toList();
+            runStep("Loading tables", () -> runTasks(connections, executor, sortedTables, tableSaver));
+            List<Table> orderedTables = orderByDependencies(tables);
+            Connection connection = connections.peek();
+            if (this.deferredConstraints) {
+                runStep("Creating unique constraints", () -> runTasks(connections, executor, orderedTables, this::saveUniqueConstraints));
+                runStep("Creating reference constraints", () -> {
+                    orderedTables.forEach(table -> addReferenceConstraints(connection, table));
+                    runTasks(connections, executor, orderedTables, this::validateReferenceConstraints);
+                });
+            } else {
+                runStep("Creating reference constraints", () -> orderedTables.forEach(table -> saveConstraints(connection, table)));
+            }
+            if (this.unloggedLoad) {
+                runStep("Setting tables logged", () -> orderedTables.forEach(table -> setLogged(connection, table)));
+            }
+            if (this.analyzeTables) {
+                runStep("Analyzing tables", () -> runTasks(connections, executor, orderedTables, this::analyzeTable));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed while storing into database");
+        } finally {
+            if (Objects.nonNull(executor)) {
+                executor.shutdownNow();
+            }
+            closeConnections(connections);
+        }
+    }
+
+    private void runTasks(BlockingQueue<Connection> connections, ExecutorService executor, List<Table> tables, BiConsumer<Connection, Table> task) {
+        if (Objects.isNull(executor)) {
+            Connection connection = connections.peek();
+            tables.forEach(table -> task.accept(connection, table));
+            return;
+        }
+        List<Future<?>> futures = tables.stream()
+                .<Future<?>>map(table -> executor.submit(() -> runTask(connections, table, task)))
+                .toList();
+        for (Future<?> future : futures) {
+            await(future);
+        }
+    }
+
+    private void verifyUnloggedTables(Connection connection, List<Table> tables) {
+        for (Table table : tables) {
+            if (isCompleted(LoadCheckpoint.TABLE_STEP, table) && !isCompleted(LoadCheckpoint.LOGGED_STEP, table) && countRows(connection, table) != this.checkpoint.committedRows(table.getName())) {
+                throw new RuntimeException("Unable to resume after unlogged tables were truncated");
+            }
+        }
+    }
+
+    private void runStep(String stepName, Runnable step) {
+        long start = System.nanoTime();
+        step.run();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info(() -> stepName + " took " + elapsed + " ms");
+    }
+
+    private LoadCheckpoint openCheckpoint(boolean resume) {
+        if (this.rowsPerCommit == 0) {
+            if (resume) {
+                throw new RuntimeException("Unable to resume without chunked commits");
+            }
+            return null;
+        }
+        return resume ? LoadCheckpoint.load(this.checkpointFile) : LoadCheckpoint.create(this.checkpointFile);
+    }
+
+    private Connection openConnection(String databaseName) throws SQLException {
+        Connection connection = DriverManager.getConnection(this.configuration.url() + "/" + databaseName, this.configuration.username(), this.configuration.password());
+        if (Objects.nonNull(this.checkpoint)) {
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+
+    private void closeConnections(Collection<Connection> connections) {
+        for (Connection connection : connections) {
+            try {
+                connection.close();
             } catch (SQLException e) {
                 throw new RuntimeException("Failed while storing into database");
             }
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Driver class not found");
+        }
+    }
+
+    private void runTask(BlockingQueue<Connection> connections, Table table, BiConsumer<Connection, Table> task) {
+        Connection connection = takeConnection(connections);
+        try {
+            task.accept(connection, table);
+        } finally {
+            connections.add(connection);
+        }
+    }
+
+    private static Connection takeConnection(BlockingQueue<Connection> connections) {
+        try {
+            return connections.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Failed while storing into database");
         }
     }
 
     private void saveTable(Connection connection, Table table) {
+        if (isCompleted(LoadCheckpoint.TABLE_STEP, table)) {
+            return;
+        }
+        createTable(connection, table);
+        if (Objects.isNull(this.checkpoint)) {
+            writeRows(connection, table, 0, Integer.MAX_VALUE);
+        } else {
+            commitRows(connection, table);
+        }
+        completeTable(connection, table);
+    }
+
+    private void saveTable(Connection connection, Table table, StreamTable streamTable) {
+        if (isCompleted(LoadCheckpoint.TABLE_STEP, table)) {
+            return;
+        }
+        createTable(connection, table);
+        if (Objects.isNull(this.checkpoint)) {
+            streamTable.forEachBatch(this.batchSize, batch -> writeRows(connection, batch, 0, Integer.MAX_VALUE));
+        } else {
+            int committedRows = committedRows(connection, table);
+            int[] fromRow = {0};
+            streamTable.forEachBatch(this.rowsPerCommit, batch -> {
+                int toRow = fromRow[0] + rowCount(batch);
+                if (toRow > committedRows) {
+                    commitRows(connection, batch, Math.max(committedRows - fromRow[0], 0), Integer.MAX_VALUE, Math.max(fromRow[0], committedRows), toRow);
+                }
+                fromRow[0] = toRow;
+            });
+        }
+        completeTable(connection, table);
+    }
+
+    private void completeTable(Connection connection, Table table) {
+        if (!this.deferredConstraints) {
+            saveUniqueConstraints(connection, table);
+        }
+        complete(connection, LoadCheckpoint.TABLE_STEP, table);
+    }
+
+    private void createTable(Connection connection, Table table) {
         try (Statement statement = connection.createStatement()) {
             statement.execute(buildCreateTableStatement(table));
-            try (PreparedStatement preparedStatement = connection.prepareStatement(buildInsertStatement(table))) {
-                List<Column<?>> columns = table.stream()
-                        .map(Map.Entry::getValue)
-                        .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-                if (!columns.isEmpty()) {
-                    columns.get(0).forEach(entry -> addInsertToStatement(preparedStatement, entry.getKey(), columns));
-                }
-                preparedStatement.executeBatch();
-            } catch (SQLException e) {
-                throw new RuntimeException("Failed while storing into database");
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed while storing into database");
+        }
+        commit(connection);
+    }
+
+    private void writeRows(Connection connection, Table table, int fromId, int toId) {
+        try {
+            this.tableWriter.write(connection, table, fromId, toId);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed while storing into database");
+        }
+    }
+
+    private void commitRows(Connection connection, Table table) {
+        if (table.isEmpty()) {
+            return;
+        }
+        RowSet rows = table.stream()
+                .findFirst()
+                .map(entry -> entry.getValue().rows())
+                .orElseThrow();
+        int row = 0;
+        int fromRow = committedRows(connection, table);
+        int fromId = -1;
+        for (int id = rows.next(0); id >= 0; id = rows.next(id + 1)) {
+            if (row == fromRow) {
+                fromId = id;
             }
-            for (Constraint constraint : table.constraints()) {
-                if (constraint.name().equals(UniqueConstraint.CONSTRAINT_NAME)) {
-                    statement.execute(buildAddConstraintStatement(table, constraint));
-                }
+            row += 1;
+            if (row - fromRow == this.rowsPerCommit) {
+                commitRows(connection, table, fromId, id + 1, fromRow, row);
+                fromRow = row;
             }
+        }
+        if (row > fromRow) {
+            commitRows(connection, table, fromId, Integer.MAX_VALUE, fromRow, row);
+        }
+    }
+
+    private int committedRows(Connection connection, Table table) {
+        int committedRows = this.checkpoint.committedRows(table.getName());
+        if (!this.resume) {
+            return committedRows;
+        }
+        int tableRows = countRows(connection, table);
+        if (tableRows != committedRows) {
+            this.checkpoint.commitRows(table.getName(), committedRows, tableRows);
+        }
+        return tableRows;
+    }
+
+    private int countRows(Connection connection, Table table) {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table.getName())) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed while storing into database");
+        }
+    }
+
+    private void commitRows(Connection connection, Table table, int fromId, int toId, int fromRow, int toRow) {
+        writeRows(connection, table, fromId, toId);
+        commit(connection);
+        this.checkpoint.commitRows(table.getName(), fromRow, toRow);
+    }
+
+    private void commit(Connection connection) {
+        if (Objects.isNull(this.checkpoint)) {
+            return;
+        }
+        try {
+            connection.commit();
         } catch (SQLException e) {
             throw new RuntimeException("Failed while storing into database");
         }
     }
 
+    private boolean isCompleted(String step, Table table) {
+        return Objects.nonNull(this.checkpoint) && this.checkpoint.isCompleted(step, table.getName());
+    }
+
+    private void complete(Connection connection, String step, Table table) {
+        commit(connection);
+        if (Objects.nonNull(this.checkpoint)) {
+            this.checkpoint.complete(step, table.getName());
+        }
+    }
+
+    private void saveUniqueConstraints(Connection connection, Table table) {
+        if (isCompleted(LoadCheckpoint.UNIQUE_STEP, table)) {
+            return;
+        }
+        executeConstraintStatements(connection, table, UniqueConstraint.CONSTRAINT_NAME, this::buildAddConstraintStatement);
+        complete(connection, LoadCheckpoint.UNIQUE_STEP, table);
+    }
+
     private void saveConstraints(Connection connection, Table table) {
+        if (isCompleted(LoadCheckpoint.CONSTRAINTS_STEP, table)) {
+            return;
+        }
+        executeConstraintStatements(connection, table, ReferenceConstraint.CONSTRAINT_NAME, this::buildAddConstraintStatement);
+        complete(connection, LoadCheckpoint.CONSTRAINTS_STEP, table);
+    }
+
+    private void addReferenceConstraints(Connection connection, Table table) {
+        if (isCompleted(LoadCheckpoint.REFERENCE_STEP, table) || isCompleted(LoadCheckpoint.CONSTRAINTS_STEP, table)) {
+            return;
+        }
+        executeConstraintStatements(connection, table, ReferenceConstraint.CONSTRAINT_NAME, this::buildAddNotValidConstraintStatement);
+        complete(connection, LoadCheckpoint.REFERENCE_STEP, table);
+    }
+
+    private void validateReferenceConstraints(Connection connection, Table table) {
+        if (isCompleted(LoadCheckpoint.CONSTRAINTS_STEP, table)) {
+            return;
+        }
+        executeConstraintStatements(connection, table, ReferenceConstraint.CONSTRAINT_NAME, this::buildValidateConstraintStatement);
+        complete(connection, LoadCheckpoint.CONSTRAINTS_STEP, table);
+    }
+
+    private void setLogged(Connection connection, Table table) {
+        if (isCompleted(LoadCheckpoint.LOGGED_STEP, table)) {
+            return;
+        }
+        executeStatement(connection, "ALTER TABLE " + table.getName() + " SET LOGGED");
+        complete(connection, LoadCheckpoint.LOGGED_STEP, table);
+    }
+
+    private void analyzeTable(Connection connection, Table table) {
+        executeStatement(connection, "ANALYZE " + table.getName());
+        commit(connection);
+    }
+
+    private void executeStatement(Connection connection, String sql) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed while storing into database");
+        }
+    }
+
+    private void executeConstraintStatements(Connection connection, Table table, String constraintName, BiFunction<Table, Constraint, String> statementBuilder) {
         try (Statement statement = connection.createStatement()) {
             for (Constraint constraint : table.constraints()) {
-                if (!constraint.name().equals(UniqueConstraint.CONSTRAINT_NAME)) {
-                    statement.execute(buildAddConstraintStatement(table, constraint));
+                if (constraint.name().equals(constraintName)) {
+                    statement.execute(statementBuilder.apply(table, constraint));
                 }
             }
         } catch (SQLException e) {
@@ -84,9 +410,59 @@ public class PostgresqlRepository implements DestinationRepository {
         }
     }
 
+    private List<Table> orderByDependencies(List<Table> tables) {
+        Map<String, Table> remainingTables = new LinkedHashMap<>();
+        tables.forEach(table -> remainingTables.put(table.getName(), table));
+        List<Table> orderedTables = new ArrayList<>();
+        while (!remainingTables.isEmpty()) {
+            List<Table> readyTables = remainingTables.values().stream()
+                    .filter(table -> referencedTables(table).noneMatch(name -> !name.equals(table.getName()) && remainingTables.containsKey(name)))
+                    .toList();
+            if (readyTables.isEmpty()) {
+                readyTables = List.copyOf(remainingTables.values());
+            }
+            for (Table table : readyTables) {
+                orderedTables.add(table);
+                remainingTables.remove(table.getName());
+            }
+        }
+        return orderedTables;
+    }
+
+    private Stream<String> referencedTables(Table table) {
+        return table.constraints().stream()
+                .filter(constraint -> constraint.name().equals(ReferenceConstraint.CONSTRAINT_NAME))
+                .map(constraint -> ((ReferenceConstraint) constraint).referencedTable().getName());
+    }
+
+    private int rowCount(Table table) {
+        return table.stream()
+                .findFirst()
+                .map(entry -> entry.getValue().size())
+                .orElse(0);
+    }
+
+    private long cellCount(Table table) {
+        return (long) rowCount(table) * table.size();
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Failed while storing into database");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed while storing into database");
+        }
+    }
+
     private String buildCreateTableStatement(Table table) {
         StringBuilder statementBuilder = new StringBuilder()
-                .append("CREATE TABLE IF NOT EXISTS ")
+                .append(this.unloggedLoad ? "CREATE UNLOGGED TABLE IF NOT EXISTS " : "CREATE TABLE IF NOT EXISTS ")
                 .append(table.getName())
                 .append(" (");
         boolean anyFound = false;
@@ -136,44 +512,22 @@ public class PostgresqlRepository implements DestinationRepository {
         return statementBuilder.toString();
     }
 
-    private String buildInsertStatement(Table table) {
-        StringBuilder statementBuilder = new StringBuilder()
-                .append("INSERT INTO ")
-                .append(table.getName())
-                .append(" (");
-        boolean anyFound = false;
-        for (Map.Entry<String, Column<?>> entry : table) {
-            if (anyFound) {
-                statementBuilder.append(", ");
-            }
-            anyFound = true;
-            statementBuilder.append(entry.getKey());
-        }
-        statementBuilder.append(") VALUES (");
-        for (int i = 0; i < table.size(); i++) {
-            if (i > 0) {
-                statementBuilder.append(", ");
-            }
-            statementBuilder.append("?");
-        }
-        statementBuilder.append(")");
-        return statementBuilder.toString();
+    private String buildAddNotValidConstraintStatement(Table table, Constraint constraint) {
+        return buildAddConstraintStatement(table, constraint) + " NOT VALID";
     }
 
-    @SuppressWarnings("unchecked")
-    private void addInsertToStatement(PreparedStatement preparedStatement, Integer id, List<Column<?>> columns) {
-        try {
-            for (int i = 0; i < columns.size(); i++) {
-                switch (columns.get(i).getType().name()) {
-                    case StringType.TYPE_NAME -> preparedStatement.setString(i + 1, ((Column<String>) columns.get(i)).get(id));
-                    case IntegerType.TYPE_NAME -> preparedStatement.setInt(i + 1, ((Column<Integer>) columns.get(i)).get(id));
-                    case DoubleType.TYPE_NAME -> preparedStatement.setDouble(i + 1, ((Column<Double>) columns.get(i)).get(id));
-                }
-            }
-            preparedStatement.addBatch();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed while storing into database");
-        }
+    @SuppressWarnings("SpellCheckingInspection")
+    private String buildValidateConstraintStatement(Table table, Constraint constraint) {
+        ReferenceConstraint referenceConstraint = (ReferenceConstraint) constraint;
+        return new StringBuilder()
+                .append("ALTER TABLE ONLY ")
+                .append(table.getName())
+                .append(" VALIDATE CONSTRAINT ")
+                .append(table.getName())
+                .append("_")
+                .append(referenceConstraint.referencingColumn().getName())
+                .append("_fkey")
+                .toString();
     }
 
     private static class PostgresRepositoryHolder {
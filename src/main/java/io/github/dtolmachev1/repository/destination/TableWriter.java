@@ -0,0 +1,12 @@
+package io.github.dtolmachev1.repository.destination;
+
+import io.github.dtolmachev1.data.table.Table;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public interface TableWriter {
+    String name();
+
+    void write(Connection connection, Table table, int fromId, int toId) throws SQLException;
+}
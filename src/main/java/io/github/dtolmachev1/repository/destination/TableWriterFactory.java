@@ -0,0 +1,18 @@
+package io.github.dtolmachev1.repository.destination;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class TableWriterFactory {
+    private static final Map<String, Supplier<TableWriter>> TABLE_WRITERS = Map.ofEntries(
+            new AbstractMap.SimpleImmutableEntry<>(InsertTableWriter.WRITER_NAME, InsertTableWriter::new),
+            new AbstractMap.SimpleImmutableEntry<>(CopyTableWriter.WRITER_NAME, CopyTableWriter::new),
+            new AbstractMap.SimpleImmutableEntry<>(BinaryCopyTableWriter.WRITER_NAME, BinaryCopyTableWriter::new)
+    );
+
+    public static TableWriter getTableWriter(String name) {
+        return Objects.requireNonNullElse(TABLE_WRITERS.get(name), () -> null).get();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.dtolmachev1.repository.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CsvRecordReader extends Closeable {
+    String name();
+
+    boolean next() throws IOException;
+
+    int size();
+
+    boolean isEmpty(int index);
+
+    String get(int index);
+}
@@ -0,0 +1,18 @@
+package io.github.dtolmachev1.repository.source;
+
+import java.io.Reader;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class CsvRecordReaderFactory {
+    private static final Map<String, Function<Reader, CsvRecordReader>> CSV_RECORD_READERS = Map.ofEntries(
+            new AbstractMap.SimpleImmutableEntry<>(OpenCsvRecordReader.READER_NAME, OpenCsvRecordReader::new),
+            new AbstractMap.SimpleImmutableEntry<>(CsvTokenizer.READER_NAME, CsvTokenizer::new)
+    );
+
+    public static CsvRecordReader getCsvRecordReader(String name, Reader reader) {
+        return Objects.requireNonNullElse(CSV_RECORD_READERS.get(name), ignored -> null).apply(reader);
+    }
+}
@@ -1,21 +1,54 @@
 package io.github.dtolmachev1.repository.source;
 
-import com.opencsv.CSVReader;
+import io.github.dtolmachev1.configuration.Configuration;
+import io.github.dtolmachev1.configuration.XmlConfiguration;
 import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.ColumnFactory;
+import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.DictionaryColumn;
 import io.github.dtolmachev1.data.column.GenericColumn;
+import io.github.dtolmachev1.data.column.SpillableColumn;
+import io.github.dtolmachev1.data.column.StringColumn;
+import io.github.dtolmachev1.data.column.StringType;
 import io.github.dtolmachev1.data.database.Database;
 import io.github.dtolmachev1.data.database.GenericDatabase;
+import io.github.dtolmachev1.data.storage.MappedStorage;
+import io.github.dtolmachev1.data.storage.Storage;
+import io.github.dtolmachev1.data.stream.AbstractStreamTable;
+import io.github.dtolmachev1.data.stream.GenericStreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamColumn;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
+import io.github.dtolmachev1.data.stream.StreamRow;
 import io.github.dtolmachev1.data.table.GenericTable;
 import io.github.dtolmachev1.data.table.Table;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 public class CsvRepository implements SourceRepository {
@@ -23,9 +56,27 @@ public class CsvRepository implements SourceRepository {
     private static final String SOURCE_EXTENSION = ".csv";
     private static final String TABLE_PREFIX = "table_";
     private static final String COLUMN_PREFIX = "column_";
-    private int tableCount;
+    private static final int DICTIONARY_THRESHOLD = 1024;
+    private static final int MEMORY_CHECK_INTERVAL = 4096;
+    private static final String SPILL_DIRECTORY_PREFIX = "ss2r_";
+    private static final String SPILL_FILE_EXTENSION = ".column";
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+    private static final long MAX_CHUNK_LENGTH = Integer.MAX_VALUE - 8;
+    private static final byte QUOTE_CHARACTER = '"';
+    private static final byte ESCAPE_CHARACTER = '\\';
+    private static final byte LINE_FEED = '\n';
+    private final Configuration configuration;
+    private final Deque<Table> residentTables;
+    private final Map<Table, Long> loadingTables;
+    private long spilledMemorySize;
+    private Path spillDirectory;
+    private ExecutorService loadExecutor;
+    private boolean chunkedLoad;
 
     private CsvRepository() {
+        this.configuration = XmlConfiguration.newInstance();
+        this.residentTables = new ArrayDeque<>();
+        this.loadingTables = new HashMap<>();
     }
 
     public static CsvRepository newInstance() {
@@ -34,67 +85,500 @@ public class CsvRepository implements SourceRepository {
 
     @Override
     public Database load(Path path, String databaseName) {
-        this.tableCount = 0;
+        return load(path, databaseName, false);
+    }
+
+    @Override
+    public Database sample(Path path, String databaseName) {
+        return load(path, databaseName, true);
+    }
+
+    @Override
+    public StreamDatabase stream(Path path, String databaseName) {
+        List<Path> files = new ArrayList<>();
+        findCsv(path, files);
+        Collections.sort(files);
+        StreamDatabase database = new GenericStreamDatabase(databaseName);
+        int tableCount = 0;
+        for (Path file : files) {
+            List<Integer> validColumns = readHeader(file);
+            if (Objects.nonNull(validColumns)) {
+                tableCount += 1;
+                database.add(new CsvStreamTable(TABLE_PREFIX + tableCount, file, validColumns));
+            }
+        }
+        return database;
+    }
+
+    private Database load(Path path, String databaseName, boolean sample) {
+        this.residentTables.clear();
+        this.loadingTables.clear();
+        this.spilledMemorySize = 0;
+        List<Path> files = new ArrayList<>();
+        findCsv(path, files);
+        Collections.sort(files);
         Database database = new GenericDatabase(databaseName);
-        loadCsv(path, database);
+        this.chunkedLoad = this.configuration.loadChunkSize() > 0 && !sample;
+        if (this.configuration.loadParallelism() > 1 || this.chunkedLoad) {
+            this.loadExecutor = Executors.newFixedThreadPool(this.configuration.loadParallelism());
+        }
+        try {
+            int tableCount = 0;
+            for (Table table : loadCsv(files, sample)) {
+                if (Objects.nonNull(table)) {
+                    tableCount += 1;
+                    table.setName(TABLE_PREFIX + tableCount);
+                    database.add(table);
+                }
+            }
+        } finally {
+            if (Objects.nonNull(this.loadExecutor)) {
+                this.loadExecutor.shutdownNow();
+                this.loadExecutor = null;
+            }
+        }
         return database;
     }
 
-    private void loadCsv(Path directory, Database database) {
+    private void findCsv(Path directory, List<Path> files) {
         if (Files.isDirectory(directory)) {
             try (DirectoryStream<Path> directories = Files.newDirectoryStream(directory)) {
-                directories.forEach(subDirectory -> loadCsv(subDirectory, database));
+                directories.forEach(subDirectory -> findCsv(subDirectory, files));
             } catch (IOException e) {
                 throw new RuntimeException("Unable to read input files");
             }
         } else if (directory.getFileName().toString().endsWith(SOURCE_EXTENSION)) {
-            try (Reader reader = Files.newBufferedReader(directory)) {
-                readCsv(reader, directory, database);
-            } catch (IOException e) {
-                throw new RuntimeException("Unable to reade input files");
+            files.add(directory);
+        }
+    }
+
+    private List<Table> loadCsv(List<Path> files, boolean sample) {
+        if (this.configuration.loadParallelism() <= 1 || files.size() <= 1) {
+            return IntStream.range(0, files.size())
+                    .mapToObj(i -> loadCsv(files.get(i), i, sample))
+                    .toList();
+        }
+        List<Future<Table>> futures = IntStream.range(0, files.size())
+                .mapToObj(i -> this.loadExecutor.submit(() -> loadCsv(files.get(i), i, sample)))
+                .toList();
+        List<Table> tables = new ArrayList<>();
+        for (Future<Table> future : futures) {
+            tables.add(await(future));
+        }
+        return tables;
+    }
+
+    private Table loadCsv(Path file, int fileNumber, boolean sample) {
+        try {
+            if (this.chunkedLoad && Files.size(file) > this.configuration.loadChunkSize()) {
+                return loadChunkedCsv(file, fileNumber);
             }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input files");
+        }
+        try (Reader reader = createReader(file)) {
+            return sample ? sampleCsv(reader, file, fileNumber) : readCsv(reader, file, fileNumber);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to reade input files");
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void readCsv(Reader reader, Path filePath, Database database) {
-        try (CSVReader csvReader = new CSVReader(reader)) {
-            if (Objects.nonNull(csvReader.peek())) {
-                List<Integer> validColumns = validateColumns(csvReader.peek());
-                Table table = createTable(filePath, validColumns.size());
-                for (String[] values : csvReader) {
+    private Table loadChunkedCsv(Path file, int fileNumber) {
+        List<Integer> validColumns = readHeader(file);
+        if (Objects.isNull(validColumns)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<FutureTask<List<DictionaryColumn>>> fragments = new ArrayList<>();
+            long size = channel.size();
+            long start = 0;
+            long position = 0;
+            boolean quoted = false;
+            boolean escaped = false;
+            boolean escapable = this.configuration.csvParser().equals(OpenCsvRecordReader.READER_NAME);
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            while (position < size) {
+                buffer.clear();
+                int length = channel.read(buffer, position);
+                if (length < 0) {
+                    break;
+                }
+                for (int i = 0; i < length; i++) {
+                    byte character = buffer.get(i);
+                    if (escaped) {
+                        escaped = false;
+                        if (character == QUOTE_CHARACTER || character == ESCAPE_CHARACTER) {
+                            continue;
+                        }
+                    }
+                    if (character == QUOTE_CHARACTER) {
+                        quoted = !quoted;
+                    } else if (character == ESCAPE_CHARACTER && quoted && escapable) {
+                        escaped = true;
+                    } else if (character == LINE_FEED && !quoted && position + i + 1 - start >= this.configuration.loadChunkSize()) {
+                        long chunkStart = start;
+                        long chunkEnd = position + i + 1;
+                        fragments.add(submitChunk(channel, chunkStart, chunkEnd, validColumns));
+                        start = chunkEnd;
+                    }
+                }
+                position += length;
+            }
+            if (start < position) {
+                fragments.add(submitChunk(channel, start, position, validColumns));
+            }
+            Table table = createTable(file, fileNumber, validColumns.size());
+            for (FutureTask<List<DictionaryColumn>> fragment : fragments) {
+                fragment.run();
+                List<DictionaryColumn> fragmentColumns = await(fragment);
+                for (int i = 0; i < fragmentColumns.size(); i++) {
+                    appendFragment(table, i, fragmentColumns.get(i));
+                    fragmentColumns.get(i).clear();
+                }
+                enforceMemoryBudget(table, false);
+            }
+            enforceMemoryBudget(table, true);
+            return table;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input files");
+        }
+    }
+
+    private FutureTask<List<DictionaryColumn>> submitChunk(FileChannel channel, long start, long end, List<Integer> validColumns) {
+        FutureTask<List<DictionaryColumn>> fragment = new FutureTask<>(() -> readChunk(channel, start, end, validColumns));
+        this.loadExecutor.execute(fragment);
+        return fragment;
+    }
+
+    private List<DictionaryColumn> readChunk(FileChannel channel, long start, long end, List<Integer> validColumns) {
+        List<DictionaryColumn> fragmentColumns = IntStream.range(0, validColumns.size())
+                .mapToObj(i -> new DictionaryColumn(COLUMN_PREFIX + (i + 1), this.configuration.storage()))
+                .toList();
+        try (CsvRecordReader recordReader = createRecordReader(createReader(channel, start, end))) {
+            while (recordReader.next()) {
+                for (int i = 0; i < validColumns.size(); i++) {
+                    fragmentColumns.get(i).add(recordReader.get(validColumns.get(i)));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input files");
+        }
+        return fragmentColumns;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Unable to read input files");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Unable to read input files");
+        }
+    }
+
+    private Table readCsv(Reader reader, Path filePath, int fileNumber) {
+        try (CsvRecordReader recordReader = createRecordReader(reader)) {
+            if (recordReader.next()) {
+                List<Integer> validColumns = validateColumns(recordReader);
+                Table table = createTable(filePath, fileNumber, validColumns.size());
+                int rowCount = 0;
+                do {
                     for (int i = 0; i < validColumns.size(); i++) {
-                        Column<String> column = (Column<String>) table.get(COLUMN_PREFIX + (i + 1));
-                        column.add(values[validColumns.get(i)]);
+                        addValue(table, i, recordReader.get(validColumns.get(i)));
+                    }
+                    rowCount += 1;
+                    if (rowCount % MEMORY_CHECK_INTERVAL == 0) {
+                        enforceMemoryBudget(table, false);
+                    }
+                } while (recordReader.next());
+                enforceMemoryBudget(table, true);
+                return table;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input files");
+        }
+        return null;
+    }
+
+    private List<Integer> readHeader(Path file) {
+        try (Reader reader = createReader(file); CsvRecordReader recordReader = createRecordReader(reader)) {
+            return recordReader.next() ? validateColumns(recordReader) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read input files");
+        }
+    }
+
+    private Table sampleCsv(Reader reader, Path filePath, int fileNumber) {
+        try (CsvRecordReader recordReader = createRecordReader(reader)) {
+            if (recordReader.next()) {
+                List<Integer> validColumns = validateColumns(recordReader);
+                Table table = createTable(filePath, fileNumber, validColumns.size());
+                table.setFullTable(new CsvStreamTable(table.getName(), filePath, validColumns));
+                for (int i = 0; i < validColumns.size(); i++) {
+                    addValue(table, i, recordReader.get(validColumns.get(i)));
+                }
+                Random random = new Random(filePath.toString().hashCode());
+                if (this.configuration.sampleSize() > 0) {
+                    table.setSampled(sampleRows(recordReader, validColumns, table, random));
+                } else {
+                    int rowCount = 0;
+                    while (recordReader.next()) {
+                        if (random.nextDouble() >= this.configuration.sampleFraction()) {
+                            table.setSampled(true);
+                        } else {
+                            for (int i = 0; i < validColumns.size(); i++) {
+                                addValue(table, i, recordReader.get(validColumns.get(i)));
+                            }
+                            rowCount += 1;
+                            if (rowCount % MEMORY_CHECK_INTERVAL == 0) {
+                                enforceMemoryBudget(table, false);
+                            }
+                        }
                     }
                 }
-                database.add(table);
+                enforceMemoryBudget(table, true);
+                return table;
             }
         } catch (IOException e) {
             throw new RuntimeException("Unable to read input files");
         }
+        return null;
     }
 
-    private List<Integer> validateColumns(String[] columns) {
+    private boolean sampleRows(CsvRecordReader recordReader, List<Integer> validColumns, Table table, Random random) throws IOException {
+        String[][] reservoir = new String[this.configuration.sampleSize()][];
+        long[] rowNumbers = new long[reservoir.length];
+        long rowCount = 0;
+        while (recordReader.next()) {
+            long slot = rowCount < reservoir.length ? rowCount : (long) (random.nextDouble() * (rowCount + 1));
+            if (slot < reservoir.length) {
+                String[] row = new String[validColumns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = recordReader.get(validColumns.get(i));
+                }
+                reservoir[(int) slot] = row;
+                rowNumbers[(int) slot] = rowCount;
+            }
+            rowCount += 1;
+        }
+        int sampleSize = (int) Math.min(rowCount, reservoir.length);
+        Integer[] order = IntStream.range(0, sampleSize)
+                .boxed()
+                .sorted(Comparator.comparingLong(slot -> rowNumbers[slot]))
+                .toArray(Integer[]::new);
+        for (int slot : order) {
+            for (int i = 0; i < reservoir[slot].length; i++) {
+                addValue(table, i, reservoir[slot][i]);
+            }
+        }
+        return rowCount > reservoir.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addValue(Table table, int columnNumber, String value) {
+        Column<String> column = (Column<String>) table.get(COLUMN_PREFIX + (columnNumber + 1));
+        column.add(value);
+        if (column instanceof DictionaryColumn dictionaryColumn && !isDictionaryEfficient(dictionaryColumn)) {
+            table.set(decodeColumn(table, dictionaryColumn));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void appendFragment(Table table, int columnNumber, DictionaryColumn fragmentColumn) {
+        Column<String> column = (Column<String>) table.get(COLUMN_PREFIX + (columnNumber + 1));
+        if (column instanceof DictionaryColumn dictionaryColumn) {
+            dictionaryColumn.append(fragmentColumn);
+            if (!isDictionaryEfficient(dictionaryColumn)) {
+                table.set(decodeColumn(table, dictionaryColumn));
+            }
+        } else {
+            fragmentColumn.forEach(entry -> column.add(entry.getValue()));
+        }
+    }
+
+    private boolean isDictionaryEfficient(DictionaryColumn column) {
+        return column.cardinality() <= DICTIONARY_THRESHOLD || column.cardinality() * 2 <= column.size();
+    }
+
+    private Column<String> decodeColumn(Table table, DictionaryColumn dictionaryColumn) {
+        Column<String> column;
+        if (dictionaryColumn.isSpilled()) {
+            column = new StringColumn(dictionaryColumn.getName(), dictionaryColumn.getType(), createSpillStorage(table, dictionaryColumn.getName()));
+        } else if (this.configuration.memoryBudget() > 0) {
+            column = new StringColumn(dictionaryColumn.getName(), dictionaryColumn.getType(), this.configuration.storage());
+        } else {
+            column = ColumnFactory.getStringColumn(dictionaryColumn.getName(), dictionaryColumn.getType(), this.configuration.storage());
+        }
+        dictionaryColumn.forEach(entry -> column.add(entry.getKey(), entry.getValue()));
+        dictionaryColumn.clear();
+        return column;
+    }
+
+    private synchronized void enforceMemoryBudget(Table loadingTable, boolean loaded) {
+        if (this.configuration.memoryBudget() == 0) {
+            return;
+        }
+        this.loadingTables.remove(loadingTable);
+        if (loaded) {
+            this.residentTables.addLast(loadingTable);
+        } else {
+            this.loadingTables.put(loadingTable, memorySize(loadingTable));
+        }
+        long memorySize = this.residentTables.stream()
+                .mapToLong(this::memorySize)
+                .sum() + this.loadingTables.values().stream()
+                .mapToLong(Long::longValue)
+                .sum() + this.spilledMemorySize;
+        while (memorySize > this.configuration.memoryBudget() && !this.residentTables.isEmpty()) {
+            Table table = this.residentTables.pollFirst();
+            memorySize -= memorySize(table);
+            spillTable(table);
+            long residualSize = memorySize(table);
+            this.spilledMemorySize += residualSize;
+            memorySize += residualSize;
+        }
+        if (memorySize > this.configuration.memoryBudget() && this.loadingTables.containsKey(loadingTable)) {
+            spillTable(loadingTable);
+            this.loadingTables.put(loadingTable, memorySize(loadingTable));
+        }
+    }
+
+    private long memorySize(Table table) {
+        return table.stream()
+                .map(Map.Entry::getValue)
+                .mapToLong(this::columnMemorySize)
+                .sum();
+    }
+
+    private long columnMemorySize(Column<?> column) {
+        if (column instanceof SpillableColumn spillableColumn) {
+            return spillableColumn.memorySize();
+        }
+        if (column instanceof GenericColumn<?> genericColumn) {
+            return genericColumn.heapSize();
+        }
+        return 0;
+    }
+
+    private void spillTable(Table table) {
+        for (Map.Entry<String, Column<?>> columnEntry : table) {
+            if (columnEntry.getValue() instanceof SpillableColumn spillableColumn && !spillableColumn.isSpilled()) {
+                spillableColumn.spill(createSpillStorage(table, columnEntry.getKey()));
+            }
+        }
+    }
+
+    private synchronized Storage createSpillStorage(Table table, String columnName) {
+        try {
+            if (Objects.isNull(this.spillDirectory)) {
+                this.spillDirectory = Files.createTempDirectory(SPILL_DIRECTORY_PREFIX);
+                this.spillDirectory.toFile().deleteOnExit();
+            }
+            return new MappedStorage(Files.createTempFile(this.spillDirectory, table.getName() + "_" + columnName + "_", SPILL_FILE_EXTENSION));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to create column file");
+        }
+    }
+
+    private Reader createReader(Path file) throws IOException {
+        if (this.configuration.mappedInput()) {
+            return new MappedFileReader(file);
+        }
+        return Files.newBufferedReader(file);
+    }
+
+    private Reader createReader(FileChannel channel, long start, long end) throws IOException {
+        if (this.configuration.mappedInput()) {
+            return new MappedFileReader(channel, start, end);
+        }
+        if (end - start > MAX_CHUNK_LENGTH) {
+            throw new RuntimeException("Unable to split input file");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return new InputStreamReader(new ByteArrayInputStream(buffer.array(), 0, buffer.position()), StandardCharsets.UTF_8);
+    }
+
+    private CsvRecordReader createRecordReader(Reader reader) {
+        return CsvRecordReaderFactory.getCsvRecordReader(this.configuration.csvParser(), reader);
+    }
+
+    private List<Integer> validateColumns(CsvRecordReader recordReader) {
         List<Integer> validColumns = new ArrayList<>();
-        for (int i = 0; i < columns.length; i++) {
-            if (!columns[i].isEmpty()) {
+        for (int i = 0; i < recordReader.size(); i++) {
+            if (!recordReader.isEmpty(i)) {
                 validColumns.add(i);
             }
         }
         return validColumns;
     }
 
-    private Table createTable(Path source, int columnCount) {
-        Table table = new GenericTable(TABLE_PREFIX + (this.tableCount + 1));
-        this.tableCount += 1;
+    private Table createTable(Path source, int fileNumber, int columnCount) {
+        Table table = new GenericTable(TABLE_PREFIX + (fileNumber + 1));
         table.addSource(source);
         IntStream.range(0, columnCount)
                 .mapToObj(i -> COLUMN_PREFIX + (i + 1))
-                .forEach(columnName -> table.add(new GenericColumn<String>(columnName)));
+                .forEach(columnName -> table.add(new DictionaryColumn(columnName, this.configuration.storage())));
         return table;
     }
 
+    private class CsvStreamTable extends AbstractStreamTable {
+        private final Path source;
+        private final List<Integer> validColumns;
+
+        private CsvStreamTable(String name, Path source, List<Integer> validColumns) {
+            super(name);
+            this.source = source;
+            this.validColumns = validColumns;
+            IntStream.range(0, validColumns.size())
+                    .mapToObj(i -> new StreamColumn(COLUMN_PREFIX + (i + 1), ColumnTypeFactory.getColumnType(StringType.TYPE_NAME), i))
+                    .forEach(this::add);
+        }
+
+        @Override
+        protected void scan(Consumer<StreamRow> action) {
+            try (Reader reader = createReader(this.source); CsvRecordReader recordReader = createRecordReader(reader)) {
+                CsvStreamRow row = new CsvStreamRow(recordReader, this.validColumns);
+                while (recordReader.next()) {
+                    action.accept(row);
+                    row.ordinal += 1;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read input files");
+            }
+        }
+    }
+
+    private static class CsvStreamRow extends StreamRow {
+        private final CsvRecordReader recordReader;
+        private final List<Integer> validColumns;
+        private int ordinal;
+
+        private CsvStreamRow(CsvRecordReader recordReader, List<Integer> validColumns) {
+            this.recordReader = recordReader;
+            this.validColumns = validColumns;
+            this.ordinal = 0;
+        }
+
+        @Override
+        public int ordinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public String get(StreamColumn column) {
+            return this.recordReader.get(this.validColumns.get(column.index()));
+        }
+    }
+
     private static class CsvRepositoryHolder {
         private static final CsvRepository CSV_REPOSITORY = new CsvRepository();
     }
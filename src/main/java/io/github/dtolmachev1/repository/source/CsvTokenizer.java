@@ -0,0 +1,184 @@
+package io.github.dtolmachev1.repository.source;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+public class CsvTokenizer implements CsvRecordReader {
+    public static final String READER_NAME = "rfc4180";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+    private static final int END_OF_INPUT = -1;
+    private static final String MISSING_VALUE = "";
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private char[] record;
+    private int recordLength;
+    private int[] fieldEnds;
+    private int fieldCount;
+
+    public CsvTokenizer(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+        this.record = new char[256];
+        this.recordLength = 0;
+        this.fieldEnds = new int[16];
+        this.fieldCount = 0;
+    }
+
+    @Override
+    public String name() {
+        return READER_NAME;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        this.recordLength = 0;
+        this.fieldCount = 0;
+        if (peek() == END_OF_INPUT) {
+            return false;
+        }
+        while (true) {
+            if (peek() == QUOTE) {
+                this.position += 1;
+                readQuoted();
+            }
+            readUnquoted();
+            endField();
+            int ch = peek();
+            if (ch == END_OF_INPUT) {
+                return true;
+            }
+            this.position += 1;
+            if (ch == CARRIAGE_RETURN) {
+                if (peek() == LINE_FEED) {
+                    this.position += 1;
+                }
+                return true;
+            }
+            if (ch == LINE_FEED) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.fieldCount;
+    }
+
+    @Override
+    public boolean isEmpty(int index) {
+        return index >= this.fieldCount || fieldStart(index) == this.fieldEnds[index];
+    }
+
+    @Override
+    public String get(int index) {
+        if (index >= this.fieldCount) {
+            return MISSING_VALUE;
+        }
+        int start = fieldStart(index);
+        return new String(this.record, start, this.fieldEnds[index] - start);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private void readQuoted() throws IOException {
+        while (true) {
+            if (this.position == this.limit && fill() == END_OF_INPUT) {
+                return;
+            }
+            int start = this.position;
+            while (this.position < this.limit && this.buffer[this.position] != QUOTE) {
+                this.position += 1;
+            }
+            append(start, this.position);
+            if (this.position < this.limit) {
+                this.position += 1;
+                if (peek() != QUOTE) {
+                    return;
+                }
+                this.position += 1;
+                appendChar(QUOTE);
+            }
+        }
+    }
+
+    private void readUnquoted() throws IOException {
+        while (true) {
+            if (this.position == this.limit && fill() == END_OF_INPUT) {
+                return;
+            }
+            int start = this.position;
+            while (this.position < this.limit && !isDelimiter(this.buffer[this.position])) {
+                this.position += 1;
+            }
+            append(start, this.position);
+            if (this.position < this.limit) {
+                return;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (this.position == this.limit && fill() == END_OF_INPUT) {
+            return END_OF_INPUT;
+        }
+        return this.buffer[this.position];
+    }
+
+    private int fill() throws IOException {
+        int length = this.reader.read(this.buffer, 0, this.buffer.length);
+        while (length == 0) {
+            length = this.reader.read(this.buffer, 0, this.buffer.length);
+        }
+        this.position = 0;
+        this.limit = Math.max(length, 0);
+        return length;
+    }
+
+    private void append(int start, int end) {
+        int length = end - start;
+        ensureRecordCapacity(this.recordLength + length);
+        System.arraycopy(this.buffer, start, this.record, this.recordLength, length);
+        this.recordLength += length;
+    }
+
+    private void appendChar(char ch) {
+        ensureRecordCapacity(this.recordLength + 1);
+        this.record[this.recordLength] = ch;
+        this.recordLength += 1;
+    }
+
+    private void endField() {
+        if (this.fieldCount == this.fieldEnds.length) {
+            this.fieldEnds = Arrays.copyOf(this.fieldEnds, this.fieldEnds.length << 1);
+        }
+        this.fieldEnds[this.fieldCount] = this.recordLength;
+        this.fieldCount += 1;
+    }
+
+    private void ensureRecordCapacity(int capacity) {
+        if (capacity > this.record.length) {
+            this.record = Arrays.copyOf(this.record, Math.max(capacity, this.record.length << 1));
+        }
+    }
+
+    private int fieldStart(int index) {
+        return index == 0 ? 0 : this.fieldEnds[index - 1];
+    }
+
+    private static boolean isDelimiter(char ch) {
+        return ch == SEPARATOR || ch == CARRIAGE_RETURN || ch == LINE_FEED;
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.dtolmachev1.repository.source;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedFileReader extends Reader {
+    private static final long WINDOW_SIZE = 1L << 26;
+    private static final int MAX_SEQUENCE_LENGTH = 4;
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long end;
+    private long windowStart;
+    private MappedByteBuffer window;
+    private int position;
+    private int limit;
+    private char pendingSurrogate;
+
+    public MappedFileReader(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.READ), true);
+    }
+
+    public MappedFileReader(FileChannel channel, long start, long end) throws IOException {
+        this(channel, start, end, false);
+    }
+
+    private MappedFileReader(FileChannel channel, boolean ownsChannel) throws IOException {
+        this(channel, 0, channel.size(), ownsChannel);
+    }
+
+    private MappedFileReader(FileChannel channel, long start, long end, boolean ownsChannel) throws IOException {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.end = end;
+        this.windowStart = start;
+        this.window = null;
+        this.position = 0;
+        this.limit = 0;
+        this.pendingSurrogate = 0;
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int count = 0;
+        if (this.pendingSurrogate != 0) {
+            chars[offset] = this.pendingSurrogate;
+            this.pendingSurrogate = 0;
+            count = 1;
+        }
+        while (count < length) {
+            if (this.limit - this.position < MAX_SEQUENCE_LENGTH && !slide()) {
+                if (this.position == this.limit) {
+                    break;
+                }
+            }
+            int asciiLimit = Math.min(this.limit, this.position + length - count);
+            while (this.position < asciiLimit) {
+                byte value = this.window.get(this.position);
+                if (value < 0) {
+                    break;
+                }
+                chars[offset + count] = (char) value;
+                count += 1;
+                this.position += 1;
+            }
+            if (count < length && this.position < this.limit && this.window.get(this.position) < 0) {
+                count += decode(chars, offset + count, length - count);
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.window = null;
+        if (this.ownsChannel) {
+            this.channel.close();
+        }
+    }
+
+    private boolean slide() throws IOException {
+        long windowEnd = this.windowStart + this.limit;
+        if (windowEnd >= this.end) {
+            return false;
+        }
+        long start = this.windowStart + this.position;
+        int size = (int) Math.min(WINDOW_SIZE, this.end - start);
+        this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        this.windowStart = start;
+        this.position = 0;
+        this.limit = size;
+        return true;
+    }
+
+    private int decode(char[] chars, int offset, int length) throws IOException {
+        int first = this.window.get(this.position) & 0xFF;
+        int sequenceLength;
+        int codePoint;
+        int minSecond = 0x80;
+        int maxSecond = 0xBF;
+        if (first >= 0xC2 && first <= 0xDF) {
+            sequenceLength = 2;
+            codePoint = first & 0x1F;
+        } else if (first >= 0xE0 && first <= 0xEF) {
+            sequenceLength = 3;
+            codePoint = first & 0x0F;
+            minSecond = first == 0xE0 ? 0xA0 : minSecond;
+            maxSecond = first == 0xED ? 0x9F : maxSecond;
+        } else if (first >= 0xF0 && first <= 0xF4) {
+            sequenceLength = 4;
+            codePoint = first & 0x07;
+            minSecond = first == 0xF0 ? 0x90 : minSecond;
+            maxSecond = first == 0xF4 ? 0x8F : maxSecond;
+        } else {
+            throw new MalformedInputException(1);
+        }
+        if (this.limit - this.position < sequenceLength) {
+            throw new MalformedInputException(this.limit - this.position);
+        }
+        for (int i = 1; i < sequenceLength; i++) {
+            int next = this.window.get(this.position + i) & 0xFF;
+            if (next < (i == 1 ? minSecond : 0x80) || next > (i == 1 ? maxSecond : 0xBF)) {
+                throw new MalformedInputException(i);
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        this.position += sequenceLength;
+        if (Character.isBmpCodePoint(codePoint)) {
+            chars[offset] = (char) codePoint;
+            return 1;
+        }
+        chars[offset] = Character.highSurrogate(codePoint);
+        if (length > 1) {
+            chars[offset + 1] = Character.lowSurrogate(codePoint);
+            return 2;
+        }
+        this.pendingSurrogate = Character.lowSurrogate(codePoint);
+        return 1;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.dtolmachev1.repository.source;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+public class OpenCsvRecordReader implements CsvRecordReader {
+    public static final String READER_NAME = "opencsv";
+    private static final String MISSING_VALUE = "";
+    private final CSVReader csvReader;
+    private String[] values;
+
+    public OpenCsvRecordReader(Reader reader) {
+        this.csvReader = new CSVReader(reader);
+        this.values = new String[0];
+    }
+
+    @Override
+    public String name() {
+        return READER_NAME;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        try {
+            this.values = this.csvReader.readNext();
+        } catch (CsvValidationException e) {
+            throw new IOException(e);
+        }
+        return Objects.nonNull(this.values);
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public boolean isEmpty(int index) {
+        return index >= this.values.length || this.values[index].isEmpty();
+    }
+
+    @Override
+    public String get(int index) {
+        return index < this.values.length ? this.values[index] : MISSING_VALUE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.csvReader.close();
+    }
+}
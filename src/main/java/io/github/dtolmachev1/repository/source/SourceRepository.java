@@ -1,9 +1,14 @@
 package io.github.dtolmachev1.repository.source;
 
 import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.data.stream.StreamDatabase;
 
 import java.nio.file.Path;
 
 public interface SourceRepository {
     Database load(Path path, String databaseName);
+
+    Database sample(Path path, String databaseName);
+
+    StreamDatabase stream(Path path, String databaseName);
 }
@@ -0,0 +1,33 @@
+package io.github.dtolmachev1.data.column;
+
+import io.github.dtolmachev1.data.table.GenericTable;
+import io.github.dtolmachev1.data.table.Table;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowSetTest {
+    @Test
+    void restoresSiblingRowsOnReinsert() {
+        Table table = new GenericTable("users");
+        IntColumn ids = new IntColumn("id");
+        StringColumn names = new StringColumn("name");
+        table.add(ids);
+        table.add(names);
+        for (int id = 0; id < 3; id++) {
+            ids.addInt(id, id);
+            names.add(id, "user" + id);
+        }
+        table.removeRow(1);
+        assertEquals(2, names.size());
+        assertEquals(2, names.statistics().rowCount());
+        int version = names.version();
+        assertTrue(ids.addInt(1, 10));
+        assertEquals(3, names.size());
+        assertEquals(3, names.statistics().rowCount());
+        assertTrue(names.version() > version);
+        assertEquals(3, ids.statistics().rowCount());
+        assertEquals(10, ids.getInt(1));
+    }
+}
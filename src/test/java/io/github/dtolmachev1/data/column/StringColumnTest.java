@@ -0,0 +1,54 @@
+package io.github.dtolmachev1.data.column;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringColumnTest {
+    private static final int ROW_COUNT = 1000;
+    private static final int ROUND_COUNT = 20;
+
+    @Test
+    void reusesSlotsForShorterValues() {
+        StringColumn column = new StringColumn("name");
+        column.add("abcdefgh");
+        column.add("ijklmnop");
+        long capacity = column.regions().get(1).capacity();
+        column.set(0, "abc");
+        column.set(1, null);
+        column.set(1, "ijkl");
+        assertEquals("abc", column.get(0));
+        assertEquals("ijkl", column.get(1));
+        assertEquals(capacity, column.regions().get(1).capacity());
+        column.set(0, null);
+        assertNull(column.get(0));
+    }
+
+    @Test
+    void compactsReplacedValues() {
+        StringColumn column = new StringColumn("name");
+        for (int id = 0; id < ROW_COUNT; id++) {
+            column.add(value(id, 0));
+        }
+        for (int round = 1; round <= ROUND_COUNT; round++) {
+            for (int id = 0; id < ROW_COUNT; id++) {
+                column.set(id, value(id, round));
+            }
+        }
+        for (int id = 0; id < ROW_COUNT; id++) {
+            assertEquals(value(id, ROUND_COUNT), column.get(id));
+        }
+        long liveSize = 0;
+        for (int id = 0; id < ROW_COUNT; id++) {
+            liveSize += value(id, ROUND_COUNT).length();
+        }
+        assertTrue(column.regions().get(1).capacity() < 4 * liveSize);
+        assertEquals(ROW_COUNT, column.statistics().rowCount());
+    }
+
+    private static String value(int id, int round) {
+        return (id + "-").repeat(100 + round * 10);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.dtolmachev1.data.storage;
+
+import io.github.dtolmachev1.data.column.IntColumn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedStorageTest {
+    private static final int ROW_COUNT = 1 << 19;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void releasesFileOnClear() {
+        Path path = this.directory.resolve("column.bin");
+        IntColumn column = new IntColumn("id", new MappedStorage(path));
+        for (int id = 0; id < ROW_COUNT; id++) {
+            column.addInt(id);
+        }
+        assertTrue(Files.exists(path));
+        assertEquals(ROW_COUNT - 1, column.getInt(ROW_COUNT - 1));
+        column.clear();
+        assertFalse(Files.exists(path));
+        column.addInt(1);
+        assertEquals(1, column.getInt(0));
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.dtolmachev1.repository.destination;
+
+import io.github.dtolmachev1.data.column.Column;
+import io.github.dtolmachev1.data.column.ColumnTypeFactory;
+import io.github.dtolmachev1.data.column.DoubleColumn;
+import io.github.dtolmachev1.data.column.DoubleType;
+import io.github.dtolmachev1.data.column.GenericColumn;
+import io.github.dtolmachev1.data.column.IntColumn;
+import io.github.dtolmachev1.data.column.IntegerType;
+import io.github.dtolmachev1.data.column.RowSet;
+import io.github.dtolmachev1.data.column.StringColumn;
+import io.github.dtolmachev1.data.table.GenericTable;
+import io.github.dtolmachev1.data.table.Table;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryCopyTableWriterTest {
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    @Test
+    void writesBinaryCopyStream() throws IOException, SQLException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(write(createTable())));
+        byte[] signature = new byte[SIGNATURE.length];
+        input.readFully(signature);
+        assertArrayEquals(SIGNATURE, signature);
+        assertEquals(0, input.readInt());
+        assertEquals(0, input.readInt());
+        assertRow(input, 1, 1.5, "ann");
+        assertRow(input, -7, -2.25, "zo\u00eb");
+        assertRow(input, Integer.MAX_VALUE, 0.0, "");
+        assertEquals(-1, input.readShort());
+        assertEquals(0, input.available());
+    }
+
+    @Test
+    void writesGenericNumericColumns() throws IOException, SQLException {
+        GenericColumn<Object> idColumn = new GenericColumn<>("id", ColumnTypeFactory.getColumnType(IntegerType.TYPE_NAME));
+        GenericColumn<Object> scoreColumn = new GenericColumn<>("score", ColumnTypeFactory.getColumnType(DoubleType.TYPE_NAME));
+        idColumn.add(42);
+        scoreColumn.add("3.5");
+        idColumn.add(null);
+        scoreColumn.add(null);
+        Table table = new GenericTable("scores");
+        table.add(idColumn);
+        table.add(scoreColumn);
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(write(table)));
+        input.skipNBytes(SIGNATURE.length + 2 * Integer.BYTES);
+        assertEquals(2, input.readShort());
+        assertEquals(Integer.BYTES, input.readInt());
+        assertEquals(42, input.readInt());
+        assertEquals(Double.BYTES, input.readInt());
+        assertEquals(Double.doubleToLongBits(3.5), input.readLong());
+        assertEquals(2, input.readShort());
+        assertEquals(-1, input.readInt());
+        assertEquals(-1, input.readInt());
+        assertEquals(-1, input.readShort());
+        assertEquals(0, input.available());
+    }
+
+    private static Table createTable() {
+        IntColumn idColumn = new IntColumn("id");
+        DoubleColumn scoreColumn = new DoubleColumn("score");
+        StringColumn nameColumn = new StringColumn("name");
+        idColumn.addInt(1);
+        scoreColumn.addDouble(1.5);
+        nameColumn.add("ann");
+        idColumn.addInt(-7);
+        scoreColumn.addDouble(-2.25);
+        nameColumn.add("zo\u00eb");
+        idColumn.addInt(Integer.MAX_VALUE);
+        scoreColumn.addDouble(0.0);
+        nameColumn.add("");
+        Table table = new GenericTable("people");
+        table.add(idColumn);
+        table.add(scoreColumn);
+        table.add(nameColumn);
+        return table;
+    }
+
+    private static byte[] write(Table table) throws SQLException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CopyBuffer copyBuffer = new CopyBuffer(null) {
+            @Override
+            protected byte[] send(byte[] buffer, int length) {
+                output.write(buffer, 0, length);
+                return buffer;
+            }
+        };
+        List<Column<?>> columns = table.stream()
+                .map(Map.Entry::getValue)
+                .toList();
+        BinaryCopyTableWriter tableWriter = new BinaryCopyTableWriter();
+        tableWriter.writeHeader(copyBuffer);
+        RowSet rows = columns.get(0).rows();
+        for (int id = rows.next(0); id >= 0; id = rows.next(id + 1)) {
+            tableWriter.writeRow(copyBuffer, id, columns);
+        }
+        tableWriter.writeTrailer(copyBuffer);
+        copyBuffer.flush();
+        return output.toByteArray();
+    }
+
+    private static void assertRow(DataInputStream input, int id, double score, String name) throws IOException {
+        assertEquals(3, input.readShort());
+        assertEquals(Integer.BYTES, input.readInt());
+        assertEquals(id, input.readInt());
+        assertEquals(Double.BYTES, input.readInt());
+        assertEquals(Double.doubleToLongBits(score), input.readLong());
+        byte[] expectedName = name.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedName.length, input.readInt());
+        byte[] actualName = new byte[expectedName.length];
+        input.readFully(actualName);
+        assertArrayEquals(expectedName, actualName);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.dtolmachev1.repository.source;
+
+import io.github.dtolmachev1.configuration.XmlConfiguration;
+import io.github.dtolmachev1.data.database.Database;
+import io.github.dtolmachev1.inference.manager.GenericInferenceManager;
+import io.github.dtolmachev1.inference.manager.InferenceManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvRepositorySampleTest {
+    private static final int USER_COUNT = 200;
+    private static final int ORDER_COUNT = 300;
+    private static final int REFERENCED_USER_COUNT = 50;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void infersReferenceFromSample() throws IOException {
+        writeFixture();
+        loadConfiguration(20);
+        Database database = CsvRepository.newInstance().sample(this.directory, "shop");
+        assertTrue(database.stream().allMatch(entry -> entry.getValue().isSampled()));
+        String analyzes = analyze(database);
+        assertTrue(analyzes.contains("<referencing-column>user_id</referencing-column>"), analyzes);
+        assertTrue(analyzes.contains("<referenced-column>id</referenced-column>"), analyzes);
+    }
+
+    @Test
+    void keepsTablesThatFitTheSample() throws IOException {
+        writeFixture();
+        loadConfiguration(ORDER_COUNT + 1);
+        Database database = CsvRepository.newInstance().sample(this.directory, "shop");
+        assertTrue(database.stream().noneMatch(entry -> entry.getValue().isSampled()));
+        assertFalse(analyze(database).contains("<confidence>"));
+    }
+
+    private void writeFixture() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(this.directory.resolve("users.csv"), StandardCharsets.UTF_8)) {
+            writer.write("id,name\n");
+            for (int id = 1; id <= USER_COUNT; id++) {
+                writer.write(id + ",user" + id + "\n");
+            }
+        }
+        try (Writer writer = Files.newBufferedWriter(this.directory.resolve("orders.csv"), StandardCharsets.UTF_8)) {
+            writer.write("id,user_id\n");
+            for (int id = 1; id <= ORDER_COUNT; id++) {
+                writer.write(id + "," + (id % REFERENCED_USER_COUNT + 1) + "\n");
+            }
+        }
+    }
+
+    private static void loadConfiguration(int sampleSize) {
+        String configuration = "<config><merge-similar-tables>false</merge-similar-tables><sample-size>" + sampleSize + "</sample-size></config>";
+        XmlConfiguration.load(new ByteArrayInputStream(configuration.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String analyze(Database database) {
+        InferenceManager inferenceManager = new GenericInferenceManager();
+        inferenceManager.analyzeDatabase(database);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        inferenceManager.saveAnalyzes(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.dtolmachev1.repository.source;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class CsvTokenizerBenchmark {
+    private static final int DEFAULT_ROW_COUNT = 1_000_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+    private static final long SEED = 42;
+    private static final List<String> READER_NAMES = List.of(OpenCsvRecordReader.READER_NAME, CsvTokenizer.READER_NAME);
+
+    public static void main(String[] args) throws IOException {
+        int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROW_COUNT;
+        Path file = Files.createTempFile("tokenizer-benchmark", ".csv");
+        try {
+            generate(file, rowCount);
+            long fileSize = Files.size(file);
+            System.out.printf("%d rows, %.1f MB%n", rowCount, fileSize / 1e6);
+            for (String readerName : READER_NAMES) {
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    read(file, readerName);
+                }
+                long[] times = new long[MEASURED_RUNS];
+                long checksum = 0;
+                for (int i = 0; i < MEASURED_RUNS; i++) {
+                    long start = System.nanoTime();
+                    checksum = read(file, readerName);
+                    times[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(times);
+                double medianMillis = times[MEASURED_RUNS / 2] / 1e6;
+                System.out.printf("%-8s median %8.1f ms, %7.1f MB/s (checksum %d)%n", readerName, medianMillis, fileSize / 1e3 / medianMillis, checksum);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void generate(Path file, int rowCount) throws IOException {
+        Random random = new Random(SEED);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,user_id,amount,score,country,name,comment,tags\n");
+            for (int row = 0; row < rowCount; row++) {
+                writer.write(Integer.toString(row));
+                writer.write(',');
+                writer.write(Integer.toString(random.nextInt(100_000)));
+                writer.write(',');
+                writer.write(Integer.toString(random.nextInt(1_000_000) - 500_000));
+                writer.write(',');
+                writer.write(Double.toString(random.nextInt(1_000_000) / 100.0));
+                writer.write(',');
+                writer.write("C" + random.nextInt(200));
+                writer.write(',');
+                writer.write(word(random, 4 + random.nextInt(12)));
+                writer.write(',');
+                writer.write(random.nextInt(4) == 0 ? "\"" + word(random, 10) + ", \"\"" + word(random, 6) + "\"\" " + word(random, 20) + "\"" : word(random, 30));
+                writer.write(',');
+                writer.write("\"" + word(random, 5) + "," + word(random, 5) + "," + word(random, 5) + "\"");
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static String word(Random random, int length) {
+        char[] characters = new char[length];
+        for (int i = 0; i < length; i++) {
+            characters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(characters);
+    }
+
+    private static long read(Path file, String readerName) throws IOException {
+        long checksum = 0;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8); CsvRecordReader recordReader = CsvRecordReaderFactory.getCsvRecordReader(readerName, reader)) {
+            while (recordReader.next()) {
+                for (int i = 0; i < recordReader.size(); i++) {
+                    checksum += recordReader.get(i).length();
+                }
+            }
+        }
+        return checksum;
+    }
+}